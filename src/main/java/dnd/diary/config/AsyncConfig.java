@@ -0,0 +1,34 @@
+package dnd.diary.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String IMAGE_PROCESSING_EXECUTOR = "imageProcessingExecutor";
+
+    // 이미지 디코딩은 메모리를 많이 사용하므로 동시 처리 수를 제한
+    @Bean(name = IMAGE_PROCESSING_EXECUTOR)
+    public Executor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("image-processing-");
+        // 대기열이 가득 찬 경우 축소본 없이 원본 이미지로 응답
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) ->
+                log.warn("[이미지 축소본 생성 대기열 초과]"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
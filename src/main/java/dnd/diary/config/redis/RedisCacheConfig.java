@@ -24,6 +24,10 @@ public class RedisCacheConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .entryTtl(Duration.ofMinutes(3L));
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf).cacheDefaults(redisCacheConfiguration).build();
+        // 트랜잭션 안의 캐시 put / evict 는 커밋 이후에 반영 (커밋 전에 지운 캐시가 이전 데이터로 다시 채워지지 않도록)
+        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+                .cacheDefaults(redisCacheConfiguration)
+                .transactionAware()
+                .build();
     }
 }
\ No newline at end of file
@@ -5,15 +5,116 @@ import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class RedisDao {
+
+    // 처음 조회한 사용자일 경우에만 조회수 증가 (SADD + INCR 을 한 번의 왕복으로 원자적으로 처리)
+    // 조회수 key 가 없다면 DB 에 저장된 조회수로 복구하고, 증가한 게시물은 DB 반영 대상(dirty) 으로 기록
+    private static final RedisScript<Long> INCREASE_VIEWS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "redis.call('SET', KEYS[1], ARGV[2]) " +
+                    "end " +
+                    "if redis.call('SADD', KEYS[2], ARGV[1]) == 1 then " +
+                    "redis.call('SADD', KEYS[3], KEYS[1]) " +
+                    "return redis.call('INCR', KEYS[1]) " +
+                    "end " +
+                    "return tonumber(redis.call('GET', KEYS[1]))",
+            Long.class
+    );
+
+    // 타임라인이 존재하는 사용자에게만 게시물 추가 후 최신 ARGV[3] 개만 유지
+    // (타임라인이 없는 사용자는 조회 시 DB 에서 다시 생성)
+    private static final RedisScript<Long> PUSH_TIMELINE_SCRIPT = new DefaultRedisScript<>(
+            "local pushed = 0 " +
+                    "for _, key in ipairs(KEYS) do " +
+                    "if redis.call('EXISTS', key) == 1 then " +
+                    "redis.call('ZADD', key, ARGV[1], ARGV[2]) " +
+                    "redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[3]) + 1)) " +
+                    "pushed = pushed + 1 " +
+                    "end " +
+                    "end " +
+                    "return pushed",
+            Long.class
+    );
+
+    // key 가 없는 경우에만 member ARGV[2] 를 score ARGV[1] 로 추가하고 ARGV[3] ms 후 만료 - 추가했으면 1
+    private static final RedisScript<Long> ADD_SORTED_SET_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "return 0 " +
+                    "end " +
+                    "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class
+    );
+
+    // member ARGV[1] 이 남아 있는 경우에만 ARGV[4] 부터의 (score, member) 를 병합하고 ARGV[1] 제거
+    // 최신 ARGV[3] 개만 유지하고 ARGV[2] ms 후 만료 - 병합했으면 1
+    private static final RedisScript<Long> MERGE_SORTED_SET_IF_MARKED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) == false then " +
+                    "return 0 " +
+                    "end " +
+                    "for i = 4, #ARGV, 2 do " +
+                    "redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+                    "end " +
+                    "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class
+    );
+
+    // 존재하는 key 의 값만 ARGV[1] 만큼 증가 (감소 시 0 미만으로 내려가지 않음)
+    // key 가 없는 경우 조회 시 DB 에서 다시 계산하므로 새로 만들지 않음
+    private static final RedisScript<Long> INCREASE_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+                    "for _, key in ipairs(KEYS) do " +
+                    "if redis.call('EXISTS', key) == 1 then " +
+                    "local value = redis.call('INCRBY', key, ARGV[1]) " +
+                    "if value < 0 then redis.call('INCRBY', key, -value) end " +
+                    "updated = updated + 1 " +
+                    "end " +
+                    "end " +
+                    "return updated",
+            Long.class
+    );
+
+    // 현재 값이 ARGV[2i-1] 과 같은 key 만 ARGV[2i] 로 변경 (만료 시간 유지)
+    // 그 사이 증감되었거나 만료된 key 는 변경하지 않음
+    private static final RedisScript<Long> REPLACE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "if redis.call('GET', key) == ARGV[2 * i - 1] then " +
+                    "redis.call('SET', key, ARGV[2 * i], 'KEEPTTL') " +
+                    "updated = updated + 1 " +
+                    "end " +
+                    "end " +
+                    "return updated",
+            Long.class
+    );
+
+    // 잠금을 획득한 쪽(ARGV[1])인 경우에만 해제 - 만료 후 다른 서버가 획득한 잠금을 해제하지 않도록
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0",
+            Long.class
+    );
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public void setValues(String key, String data) {
@@ -40,7 +141,116 @@ public class RedisDao {
         return values.get(key);
     }
 
+    public List<String> multiGetValues(List<String> keys) {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        return values.multiGet(keys);
+    }
+
+    public Long increaseViews(String viewsKey, String viewersKey, String dirtyKey, String viewer, long initialViews) {
+        return redisTemplate.execute(
+                INCREASE_VIEWS_SCRIPT, List.of(viewsKey, viewersKey, dirtyKey), viewer, String.valueOf(initialViews)
+        );
+    }
+
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, data, duration));
+    }
+
+    public boolean deleteValuesIfEquals(String key, String data) {
+        Long deleted = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(key), data);
+        return deleted != null && deleted > 0;
+    }
+
+    public Long increaseValuesIfExists(List<String> keys, long delta) {
+        return redisTemplate.execute(INCREASE_IF_EXISTS_SCRIPT, keys, String.valueOf(delta));
+    }
+
+    public Long replaceValuesIfEquals(List<String> keys, List<String> expectedValues, List<String> values) {
+        String[] args = new String[keys.size() * 2];
+        for (int i = 0; i < keys.size(); i++) {
+            args[2 * i] = expectedValues.get(i);
+            args[2 * i + 1] = values.get(i);
+        }
+        return redisTemplate.execute(REPLACE_IF_EQUALS_SCRIPT, keys, (Object[]) args);
+    }
+
+    public void addSetValues(String key, String... data) {
+        redisTemplate.opsForSet().add(key, data);
+    }
+
+    public List<String> popSetValues(String key, long count) {
+        List<String> values = redisTemplate.opsForSet().pop(key, count);
+        return values == null ? new ArrayList<>() : values;
+    }
+
+    public Long pushSortedSetValues(List<String> keys, String data, long score, long maxSize) {
+        return redisTemplate.execute(
+                PUSH_TIMELINE_SCRIPT, keys, String.valueOf(score), data, String.valueOf(maxSize)
+        );
+    }
+
+    public void addSortedSetValues(String key, Set<ZSetOperations.TypedTuple<String>> tuples, Duration duration) {
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, duration);
+    }
+
+    public Set<ZSetOperations.TypedTuple<String>> getSortedSetReverseRange(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> values = redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        return values == null ? new LinkedHashSet<>() : values;
+    }
+
+    public boolean addSortedSetValueIfAbsent(String key, String data, long score, Duration duration) {
+        Long added = redisTemplate.execute(
+                ADD_SORTED_SET_IF_ABSENT_SCRIPT, List.of(key), String.valueOf(score), data, String.valueOf(duration.toMillis())
+        );
+        return added != null && added > 0;
+    }
+
+    public boolean mergeSortedSetValuesIfMarked(String key, String marker, Map<String, Long> values, long maxSize, Duration duration) {
+        List<String> args = new ArrayList<>(List.of(marker, String.valueOf(duration.toMillis()), String.valueOf(maxSize)));
+        values.forEach((data, score) -> {
+            args.add(String.valueOf(score));
+            args.add(data);
+        });
+        Long merged = redisTemplate.execute(MERGE_SORTED_SET_IF_MARKED_SCRIPT, List.of(key), args.toArray());
+        return merged != null && merged > 0;
+    }
+
+    public Double getSortedSetScore(String key, String data) {
+        return redisTemplate.opsForZSet().score(key, data);
+    }
+
+    public void addSortedSetValue(String key, String data, long score) {
+        redisTemplate.opsForZSet().add(key, data, score);
+    }
+
+    public boolean removeSortedSetValue(String key, String data) {
+        Long removed = redisTemplate.opsForZSet().remove(key, data);
+        return removed != null && removed > 0;
+    }
+
+    public Set<String> getSortedSetRangeByScore(String key, double max, long count) {
+        Set<String> values = redisTemplate.opsForZSet().rangeByScore(key, Double.NEGATIVE_INFINITY, max, 0, count);
+        return values == null ? new LinkedHashSet<>() : values;
+    }
+
+    public void removeSortedSetValues(List<String> keys, String data) {
+        keys.forEach(key -> redisTemplate.opsForZSet().remove(key, data));
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    public void expire(String key, Duration duration) {
+        redisTemplate.expire(key, duration);
+    }
+
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import dnd.diary.request.service.mission.StickerGroupCreateRequest;
 import dnd.diary.response.CustomResponseEntity;
+import dnd.diary.response.common.CacheStatsResponse;
 import dnd.diary.response.mission.StickerGroupResponse;
 import dnd.diary.response.mission.StickerResponse;
 import dnd.diary.service.AdminService;
@@ -86,4 +87,10 @@ public class AdminController {
 	public CustomResponseEntity<List<StickerResponse>> getStickerList() {
 		return CustomResponseEntity.success(adminService.getStickerList());
 	}
+
+	// [관리자] 지도 타일 캐시 적중률 조회
+	@GetMapping("/cache/map")
+	public CustomResponseEntity<CacheStatsResponse> getMapTileCacheStats() {
+		return CustomResponseEntity.success(adminService.getMapTileCacheStats());
+	}
 }
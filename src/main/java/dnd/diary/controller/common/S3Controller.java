@@ -2,14 +2,20 @@ package dnd.diary.controller.common;
 
 import java.util.List;
 
+import javax.validation.Valid;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import dnd.diary.request.controller.common.UploadSlotsRequest;
 import dnd.diary.response.CustomResponseEntity;
+import dnd.diary.response.common.UploadSlotResponse;
 import dnd.diary.service.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +38,15 @@ public class S3Controller {
 		return CustomResponseEntity.success(fileImageList);
 	}
 
+	// 직접 업로드 URL 발급 - 업로드 후 fileName 을 피드 작성 시 imageFileNames 로 전달
+	@PostMapping("/upload-slots")
+	public CustomResponseEntity<List<UploadSlotResponse>> createUploadSlots(
+			@AuthenticationPrincipal final Long userId,
+			@RequestBody @Valid final UploadSlotsRequest request
+	) {
+		return CustomResponseEntity.success(s3Service.createUploadSlots(userId, request.getUploadSlots()));
+	}
+
 	@DeleteMapping("/file")
 	public CustomResponseEntity<Object> remove(String fileUrl) throws Exception {
 		s3Service.remove(fileUrl);
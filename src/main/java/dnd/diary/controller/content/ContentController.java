@@ -5,10 +5,13 @@ import dnd.diary.response.content.ContentResponse;
 import dnd.diary.service.content.ContentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -21,12 +24,20 @@ public class ContentController {
     public CustomResponseEntity<ContentResponse.Create> contentCreate(
             @AuthenticationPrincipal final Long userId,
             @RequestPart(required = false) final List<MultipartFile> multipartFile,
+            @RequestParam(required = false) final List<String> imageFileNames,
             @RequestParam final Long groupId,
             @RequestParam final String content,
             @RequestParam(required = false) final Double latitude,
             @RequestParam(required = false) final Double longitude,
             @RequestParam(required = false) final String location
     ) {
+        // 직접 업로드(/s3/upload-slots)한 이미지는 파일 이름으로 전달
+        if (imageFileNames != null && !imageFileNames.isEmpty()) {
+            return CustomResponseEntity.success(contentService.createContentWithUploadedImages(
+                    userId, imageFileNames, groupId,
+                    content, latitude, longitude, location)
+            );
+        }
         return CustomResponseEntity.success(contentService.createContent(
                 userId, multipartFile, groupId,
                 content, latitude, longitude, location)
@@ -88,6 +99,27 @@ public class ContentController {
         return CustomResponseEntity.success(contentService.groupAllListContent(userId, groupId, page));
     }
 
+    // 홈 타임라인 조회 - 가입한 전체 그룹의 최신 피드
+    @GetMapping("content/timeline")
+    public CustomResponseEntity<Slice<ContentResponse.GroupPage>> contentTimeline(
+            @AuthenticationPrincipal final Long userId,
+            @RequestParam final Integer page
+    ) {
+        return CustomResponseEntity.success(contentService.timelineContent(userId, page));
+    }
+
+    // 그룹 피드 커서 조회 - 첫 페이지는 lastCreatedAt, lastContentId 없이 요청
+    @GetMapping("content/group/cursor")
+    public CustomResponseEntity<ContentResponse.CursorPage> contentGroupCursorList(
+            @AuthenticationPrincipal final Long userId,
+            @RequestParam final List<Long> groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) final Long lastContentId,
+            @RequestParam(defaultValue = "10") final Integer size
+    ) {
+        return CustomResponseEntity.success(contentService.groupCursorListContent(userId, groupId, lastCreatedAt, lastContentId, size));
+    }
+
     // 피드 검색 조회2
     @GetMapping("content/group/search")
     public CustomResponseEntity<Page<ContentResponse.Create>> searchContent(
@@ -110,6 +142,18 @@ public class ContentController {
         return CustomResponseEntity.success(contentService.listMyMap(userId, startLatitude, startLongitude, endLatitude, endLongitude));
     }
 
+    // 지도 포함 검색 - 넓은 범위는 격자 단위 묶음으로 응답
+    @GetMapping("content/map/cluster")
+    public CustomResponseEntity<ContentResponse.ClusteredMap> myMapClusterList(
+            @AuthenticationPrincipal final Long userId,
+            @RequestParam final Double startLatitude,
+            @RequestParam final Double startLongitude,
+            @RequestParam final Double endLatitude,
+            @RequestParam final Double endLongitude
+    ) {
+        return CustomResponseEntity.success(contentService.listMyMapClusters(userId, startLatitude, startLongitude, endLatitude, endLongitude));
+    }
+
     // (중복되는 장소의) 지도 피드 상세보기
     @GetMapping("content/map/detail")
     public CustomResponseEntity<List<ContentResponse.LocationDetail>> myMapListDetail(
@@ -1,17 +1,23 @@
 package dnd.diary.controller.group;
 
+import dnd.diary.domain.group.NotificationType;
 import dnd.diary.response.CustomResponseEntity;
 import dnd.diary.response.notification.AllNotificationListResponse;
 import dnd.diary.response.notification.NotificationReadResponse;
 import dnd.diary.response.notification.InviteNotificationResponse;
 import dnd.diary.response.notification.UserNotificationInfoResponse;
+import dnd.diary.service.group.NotificationPushService;
 import dnd.diary.service.group.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/notification")
@@ -19,6 +25,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
 	private final NotificationService notificationService;
+	private final NotificationPushService notificationPushService;
+
+	// 새 알림 실시간 수신 (SSE) - 알림 종류만 전달되므로 목록은 /notification/all 로 조회
+	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribe(@AuthenticationPrincipal Long userId) {
+		return notificationPushService.subscribe(userId);
+	}
 
 	// 초대 알림 목록 조회
 	@GetMapping
@@ -26,9 +39,14 @@ public class NotificationController {
 		return CustomResponseEntity.success(notificationService.getInviteNotification(userId));
 	}
 
+	// 전체 알림 목록 조회 - type 미지정 시 초대 알림을 제외한 전체
 	@GetMapping("/all")
-	public CustomResponseEntity<AllNotificationListResponse> getAllNotificationList(@AuthenticationPrincipal Long userId) {
-		return CustomResponseEntity.success(notificationService.getAllNotificationList(userId));
+	public CustomResponseEntity<AllNotificationListResponse> getAllNotificationList(
+		@AuthenticationPrincipal Long userId,
+		@RequestParam(required = false) List<NotificationType> type,
+		@RequestParam(defaultValue = "1") Integer page
+	) {
+		return CustomResponseEntity.success(notificationService.getAllNotificationList(userId, type, page));
 	}
 
 	// 알림 단일 클릭(읽기)
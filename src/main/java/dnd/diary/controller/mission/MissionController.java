@@ -6,6 +6,7 @@ import dnd.diary.request.service.mission.MissionCheckLocationRequest;
 import dnd.diary.request.service.mission.MissionListByMapRequest;
 import dnd.diary.response.mission.MissionCheckContentResponse;
 import dnd.diary.response.mission.MissionCheckLocationResponse;
+import dnd.diary.response.mission.MissionNearbyResponse;
 import org.locationtech.jts.io.ParseException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -96,6 +97,16 @@ public class MissionController {
         return CustomResponseEntity.success(missionService.checkMissionLocation(userId, request));
     }
 
+    // 현재 위치 근처의 진행 중인 내 미션 조회
+    @GetMapping("/nearby")
+    public CustomResponseEntity<List<MissionNearbyResponse>> getNearbyMissionList(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @AuthenticationPrincipal Long userId
+    ) {
+        return CustomResponseEntity.success(missionService.getNearbyMissionList(userId, latitude, longitude));
+    }
+
     @PostMapping("/check/content")
     public CustomResponseEntity<MissionCheckContentResponse> checkMissionContent(
             @AuthenticationPrincipal final Long userId,
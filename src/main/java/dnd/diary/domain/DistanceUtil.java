@@ -0,0 +1,53 @@
+package dnd.diary.domain;
+
+/**
+ * 두 위치 사이 거리 계산 (haversine, 단위 m)
+ * - 구면 코사인 법칙(acos)은 수십 m 거리에서 acos 인자가 1 에 가까워 오차가 커지므로 haversine 사용
+ * - 한 위치 기준으로 여러 위치와의 거리를 계산할 때는 Origin 으로 기준 위치의 radian, cos 값을 한 번만 계산
+ */
+public class DistanceUtil {
+
+	private static final double EARTH_RADIUS_METER = 6_371_008.8;
+	private static final double METER_PER_LATITUDE_DEGREE = Math.PI * EARTH_RADIUS_METER / 180;
+
+	public static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+		return from(latitude1, longitude1).distanceTo(latitude2, longitude2);
+	}
+
+	public static Origin from(double latitude, double longitude) {
+		return new Origin(latitude, longitude);
+	}
+
+	// 기준 위치에서 반경 meter 를 포함하는 위도/경도 범위 - 인덱스 검색 후 distanceTo 로 다시 거리 확인
+	public static double[] boundingBox(double latitude, double longitude, double meter) {
+		double latitudeDelta = meter / METER_PER_LATITUDE_DEGREE;
+		double longitudeDelta = meter / (METER_PER_LATITUDE_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+		return new double[]{
+				latitude - latitudeDelta, longitude - longitudeDelta,
+				latitude + latitudeDelta, longitude + longitudeDelta
+		};
+	}
+
+	public static class Origin {
+
+		private final double latitudeRadian;
+		private final double longitudeRadian;
+		private final double cosLatitude;
+
+		private Origin(double latitude, double longitude) {
+			this.latitudeRadian = Math.toRadians(latitude);
+			this.longitudeRadian = Math.toRadians(longitude);
+			this.cosLatitude = Math.cos(latitudeRadian);
+		}
+
+		public double distanceTo(double latitude, double longitude) {
+			double targetLatitudeRadian = Math.toRadians(latitude);
+			double sinHalfLatitude = Math.sin((targetLatitudeRadian - latitudeRadian) / 2);
+			double sinHalfLongitude = Math.sin((Math.toRadians(longitude) - longitudeRadian) / 2);
+
+			double a = sinHalfLatitude * sinHalfLatitude
+					+ cosLatitude * Math.cos(targetLatitudeRadian) * sinHalfLongitude * sinHalfLongitude;
+			return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+		}
+	}
+}
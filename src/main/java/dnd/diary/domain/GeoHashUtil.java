@@ -0,0 +1,120 @@
+package dnd.diary.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GeoHashUtil {
+
+	private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+	public static String encode(double latitude, double longitude, int precision) {
+		double minLatitude = -90, maxLatitude = 90;
+		double minLongitude = -180, maxLongitude = 180;
+
+		StringBuilder geoHash = new StringBuilder(precision);
+		boolean isLongitudeBit = true;
+		int bit = 0;
+		int charIndex = 0;
+
+		while (geoHash.length() < precision) {
+			if (isLongitudeBit) {
+				double mid = (minLongitude + maxLongitude) / 2;
+				if (longitude >= mid) {
+					charIndex = (charIndex << 1) | 1;
+					minLongitude = mid;
+				} else {
+					charIndex = charIndex << 1;
+					maxLongitude = mid;
+				}
+			} else {
+				double mid = (minLatitude + maxLatitude) / 2;
+				if (latitude >= mid) {
+					charIndex = (charIndex << 1) | 1;
+					minLatitude = mid;
+				} else {
+					charIndex = charIndex << 1;
+					maxLatitude = mid;
+				}
+			}
+			isLongitudeBit = !isLongitudeBit;
+
+			if (++bit == 5) {
+				geoHash.append(BASE32.charAt(charIndex));
+				bit = 0;
+				charIndex = 0;
+			}
+		}
+		return geoHash.toString();
+	}
+
+	// 한 타일의 위도/경도 크기
+	public static double latitudeStep(int precision) {
+		int latitudeBits = (5 * precision) / 2;
+		return 180.0 / (1L << latitudeBits);
+	}
+
+	public static double longitudeStep(int precision) {
+		int longitudeBits = (5 * precision + 1) / 2;
+		return 360.0 / (1L << longitudeBits);
+	}
+
+	// geohash 타일의 범위 [minLatitude, maxLatitude, minLongitude, maxLongitude]
+	public static double[] bounds(String geoHash) {
+		double minLatitude = -90, maxLatitude = 90;
+		double minLongitude = -180, maxLongitude = 180;
+		boolean isLongitudeBit = true;
+
+		for (char c : geoHash.toCharArray()) {
+			int charIndex = BASE32.indexOf(c);
+			for (int bit = 4; bit >= 0; bit--) {
+				boolean isOne = ((charIndex >> bit) & 1) == 1;
+				if (isLongitudeBit) {
+					double mid = (minLongitude + maxLongitude) / 2;
+					if (isOne) {
+						minLongitude = mid;
+					} else {
+						maxLongitude = mid;
+					}
+				} else {
+					double mid = (minLatitude + maxLatitude) / 2;
+					if (isOne) {
+						minLatitude = mid;
+					} else {
+						maxLatitude = mid;
+					}
+				}
+				isLongitudeBit = !isLongitudeBit;
+			}
+		}
+		return new double[]{minLatitude, maxLatitude, minLongitude, maxLongitude};
+	}
+
+	// 지도 범위를 덮는 타일 목록 - 각 타일의 중심 좌표로 geohash 계산
+	public static List<String> coveringTiles(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int precision) {
+		double latitudeStep = latitudeStep(precision);
+		double longitudeStep = longitudeStep(precision);
+
+		long startLatitudeIndex = (long) Math.floor((minLatitude + 90) / latitudeStep);
+		long endLatitudeIndex = (long) Math.floor((maxLatitude + 90) / latitudeStep);
+		long startLongitudeIndex = (long) Math.floor((minLongitude + 180) / longitudeStep);
+		long endLongitudeIndex = (long) Math.floor((maxLongitude + 180) / longitudeStep);
+
+		List<String> tiles = new ArrayList<>();
+		for (long latitudeIndex = startLatitudeIndex; latitudeIndex <= endLatitudeIndex; latitudeIndex++) {
+			for (long longitudeIndex = startLongitudeIndex; longitudeIndex <= endLongitudeIndex; longitudeIndex++) {
+				double centerLatitude = (latitudeIndex + 0.5) * latitudeStep - 90;
+				double centerLongitude = (longitudeIndex + 0.5) * longitudeStep - 180;
+				tiles.add(encode(centerLatitude, centerLongitude, precision));
+			}
+		}
+		return tiles;
+	}
+
+	public static long countCoveringTiles(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int precision) {
+		double latitudeStep = latitudeStep(precision);
+		double longitudeStep = longitudeStep(precision);
+		long latitudeCount = (long) Math.floor((maxLatitude + 90) / latitudeStep) - (long) Math.floor((minLatitude + 90) / latitudeStep) + 1;
+		long longitudeCount = (long) Math.floor((maxLongitude + 180) / longitudeStep) - (long) Math.floor((minLongitude + 180) / longitudeStep) + 1;
+		return latitudeCount * longitudeCount;
+	}
+}
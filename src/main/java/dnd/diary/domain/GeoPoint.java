@@ -0,0 +1,13 @@
+package dnd.diary.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지도 타일 캐시에 저장되는 위치 정보 (게시물/미션 ID + 좌표)
+@Getter
+@AllArgsConstructor
+public class GeoPoint {
+	private Long id;
+	private Double latitude;
+	private Double longitude;
+}
@@ -0,0 +1,34 @@
+package dnd.diary.domain;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+public class GeometryUtil {
+
+	private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+	// x = 경도, y = 위도
+	// SPATIAL INDEX 는 NOT NULL 컬럼에만 생성할 수 있으므로, 위치가 없는 경우 원점으로 저장
+	public static Point createPoint(Double latitude, Double longitude) {
+		if (latitude == null || longitude == null) {
+			return GEOMETRY_FACTORY.createPoint(new Coordinate(0, 0));
+		}
+		return GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+	}
+
+	// 지도 범위(좌상단, 우하단)를 MBRContains 에 사용할 POLYGON WKT 로 변환
+	public static String toPolygonWKT(Double startLatitude, Double startLongitude, Double endLatitude, Double endLongitude) {
+		double minLatitude = Math.min(startLatitude, endLatitude);
+		double maxLatitude = Math.max(startLatitude, endLatitude);
+		double minLongitude = Math.min(startLongitude, endLongitude);
+		double maxLongitude = Math.max(startLongitude, endLongitude);
+
+		return String.format("POLYGON((%s %s, %s %s, %s %s, %s %s, %s %s))",
+				minLongitude, minLatitude,
+				maxLongitude, minLatitude,
+				maxLongitude, maxLatitude,
+				minLongitude, maxLatitude,
+				minLongitude, minLatitude);
+	}
+}
@@ -1,6 +1,7 @@
 package dnd.diary.domain.content;
 
 import dnd.diary.domain.BaseEntity;
+import dnd.diary.domain.GeometryUtil;
 import dnd.diary.domain.bookmark.Bookmark;
 import dnd.diary.domain.document.ContentJoinDocumentFolder;
 import dnd.diary.domain.document.Document;
@@ -8,6 +9,7 @@ import dnd.diary.domain.group.Group;
 import dnd.diary.domain.user.User;
 import dnd.diary.domain.comment.Comment;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
@@ -21,6 +23,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = @Index(name = "idx_content_group_created", columnList = "group_id, deleted_yn, created_at, content_id"))
 @AllArgsConstructor
 @Builder
 @DynamicUpdate
@@ -67,16 +70,19 @@ public class Content extends BaseEntity {
 
     // 게시물에 포함된 이미지 목록
     @OneToMany(mappedBy = "content")
+    @BatchSize(size = 100)
     @Builder.Default
     private List<ContentImage> contentImages = new ArrayList<>();
 
     // 게시물에 달린 댓글 목록
     @OneToMany(mappedBy = "content")
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
     // 게시물에 달린 공감 목록
     @OneToMany(mappedBy = "content")
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Emotion> emotions = new ArrayList<>();
 
@@ -104,6 +110,7 @@ public class Content extends BaseEntity {
         this.content = content;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.point = GeometryUtil.createPoint(latitude, longitude);
         this.location = location;
     }
 
@@ -24,6 +24,11 @@ public class ContentImage extends BaseEntity {
     @Column(nullable = false)
     private String imageName;
 
+    // 목록/지도용 축소 이미지 - 업로드 후 비동기로 생성되며 생성 전에는 null
+    private String thumbnailUrl;
+
+    private String mediumUrl;
+
     // 해당 이미지가 포함된 게시글
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "content_id")
@@ -0,0 +1,45 @@
+package dnd.diary.domain.content;
+
+import dnd.diary.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * S3 삭제 대기 파일 (transactional outbox)
+ * - 이미지를 더 이상 사용하지 않게 된 트랜잭션에서 삭제할 파일 이름만 저장
+ * - 커밋 후 ImageDeletionRelay 가 최대 1000개씩 모아 한 번의 요청으로 삭제
+ * - 삭제할 파일은 짧은 트랜잭션에서 claimedAt 으로 표시한 뒤 트랜잭션 밖에서 S3 삭제 (S3 요청 동안 행 잠금을 유지하지 않도록)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ImageDeletion extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_deletion_id")
+    private Long id;
+
+    // S3 파일 이름 (key)
+    @Column(nullable = false)
+    private String fileName;
+
+    // 삭제 시도 횟수
+    private int attemptCount;
+
+    // 삭제를 맡은 시각 - 삭제 중인 파일을 다른 서버가 가져가지 않도록 표시, 일정 시간이 지나도 삭제되지 않으면 다시 시도
+    private LocalDateTime claimedAt;
+
+    private ImageDeletion(String fileName) {
+        this.fileName = fileName;
+        this.attemptCount = 0;
+    }
+
+    public static ImageDeletion toEntity(String fileName) {
+        return new ImageDeletion(fileName);
+    }
+}
@@ -0,0 +1,48 @@
+package dnd.diary.domain.content;
+
+import dnd.diary.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * S3 에 저장된 게시물 이미지 (SHA-256 기준 중복 제거)
+ * - 같은 이미지는 한 번만 저장하고, 이미지를 사용하는 ContentImage 수를 referenceCount 로 관리
+ * - 마지막 참조가 사라지면 행과 S3 파일을 함께 삭제
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_stored_image_hash", columnList = "hash", unique = true),
+        @Index(name = "idx_stored_image_file_name", columnList = "fileName")
+})
+public class StoredImage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stored_image_id")
+    private Long id;
+
+    // 이미지 내용의 SHA-256 (hex)
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    // S3 파일 이름 - 삭제 후 같은 이미지가 다시 업로드되어도 이전 파일 삭제와 겹치지 않도록 매번 새 이름 사용
+    @Column(nullable = false)
+    private String fileName;
+
+    private long referenceCount;
+
+    private StoredImage(String hash, String fileName) {
+        this.hash = hash;
+        this.fileName = fileName;
+        this.referenceCount = 1;
+    }
+
+    public static StoredImage toEntity(String hash, String fileName) {
+        return new StoredImage(hash, fileName);
+    }
+}
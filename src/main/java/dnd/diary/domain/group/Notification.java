@@ -18,6 +18,7 @@ import javax.persistence.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = @Index(name = "idx_notification_user_read", columnList = "user_id, read_yn, created_at"))
 public class Notification extends BaseEntity {
 
     @Id
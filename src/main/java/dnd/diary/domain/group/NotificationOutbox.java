@@ -0,0 +1,89 @@
+package dnd.diary.domain.group;
+
+import dnd.diary.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 발행 대기 이벤트 (transactional outbox)
+ * - 알림을 발생시킨 트랜잭션에서는 이벤트 한 건만 저장
+ * - 커밋 후 NotificationOutboxRelay 가 수신자별 Notification 으로 펼쳐 일괄 저장
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+
+    private Long contentId;
+    private Long commentId;
+    private Long emotionId;
+    private Long commentLikeId;
+    private Long groupId;
+    private Long newGroupUserId;
+
+    // 알림을 받을 사용자 ID 목록 - 인원 수 제한이 없도록 별도 테이블에 저장
+    @ElementCollection
+    @CollectionTable(name = "notification_outbox_recipient", joinColumns = @JoinColumn(name = "notification_outbox_id"))
+    @Column(name = "recipient_id")
+    @BatchSize(size = 100)
+    private List<Long> recipientIds = new ArrayList<>();
+
+    // 발행 실패 횟수
+    private int attemptCount;
+
+    private NotificationOutbox(NotificationType notificationType, Long contentId, Long commentId, Long emotionId,
+                               Long commentLikeId, Long groupId, Long newGroupUserId, Collection<Long> recipientIds) {
+        this.notificationType = notificationType;
+        this.contentId = contentId;
+        this.commentId = commentId;
+        this.emotionId = emotionId;
+        this.commentLikeId = commentLikeId;
+        this.groupId = groupId;
+        this.newGroupUserId = newGroupUserId;
+        this.recipientIds = new ArrayList<>(recipientIds);
+        this.attemptCount = 0;
+    }
+
+    // 게시물 댓글 알림
+    public static NotificationOutbox toContentCommentEntity(Long contentId, Long commentId, Long recipientId) {
+        return new NotificationOutbox(NotificationType.CONTENT_COMMENT, contentId, commentId, null,
+                null, null, null, List.of(recipientId));
+    }
+
+    // 게시물 공감 알림
+    public static NotificationOutbox toContentEmotionEntity(Long contentId, Long emotionId, Long recipientId) {
+        return new NotificationOutbox(NotificationType.CONTENT_EMOTION, contentId, null, emotionId,
+                null, null, null, List.of(recipientId));
+    }
+
+    // 댓글 좋아요 알림
+    public static NotificationOutbox toCommentLikeEntity(Long commentId, Long commentLikeId, Long recipientId) {
+        return new NotificationOutbox(NotificationType.COMMENT_LIKE, null, commentId, null,
+                commentLikeId, null, null, List.of(recipientId));
+    }
+
+    // 그룹 새 멤버 알림 - 기존 구성원 전체에게 발행
+    public static NotificationOutbox toNewGroupMemberEntity(Long groupId, Long newGroupUserId, Long contentId, Collection<Long> recipientIds) {
+        return new NotificationOutbox(NotificationType.NEW_GROUP_MEMBER, contentId, null, null,
+                null, groupId, newGroupUserId, recipientIds);
+    }
+
+    public List<Long> getRecipientIdList() {
+        return List.copyOf(recipientIds);
+    }
+}
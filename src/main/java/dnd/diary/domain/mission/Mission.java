@@ -1,7 +1,5 @@
 package dnd.diary.domain.mission;
 
-import static dnd.diary.domain.mission.DateUtil.*;
-
 import com.sun.istack.NotNull;
 import dnd.diary.domain.BaseEntity;
 import dnd.diary.domain.group.Group;
@@ -18,14 +16,13 @@ import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = @Index(name = "idx_mission_status_date", columnList = "mission_status, mission_start_date, mission_end_date"))
 @SQLDelete(sql = "UPDATE mission SET deleted = true WHERE mission_id = ?")
 @Where(clause = "deleted = false")
 public class Mission extends BaseEntity {
@@ -64,7 +61,7 @@ public class Mission extends BaseEntity {
 
     private Integer missionColor;
 
-//    private Point point;
+    private Point point;
 
     private boolean deleted = Boolean.FALSE;   // 미션 삭제 여부 - soft delete 처리용
 
@@ -94,14 +91,15 @@ public class Mission extends BaseEntity {
         this.group = group;
         this.missionName = missionName;
         this.missionNote = missionNote;
-        // UTC 로 변환 후 저장
         this.existPeriod = existPeriod;
-        this.missionStartDate = missionStartDate != null ? convertLocalDateTimeZone(missionStartDate, ZoneId.of("Asia/Seoul"), ZoneOffset.UTC) : null;
-        this.missionEndDate = missionEndDate != null ? convertLocalDateTimeZone(missionEndDate, ZoneId.of("Asia/Seoul"), ZoneOffset.UTC) : null;
+        // 서울 기준 시작일 00:00:00, 종료일 23:59:59 를 그대로 저장 (MissionStatusResolver.missionStartDate / missionEndDate)
+        this.missionStartDate = missionStartDate;
+        this.missionEndDate = missionEndDate;
         this.missionLocationName = missionLocationName;
         this.missionLocationAddress = missionLocationAddress;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.point = point;
         this.missionColor = missionColor;
         this.missionStatus = missionStatus;
         this.deletedYn = false;
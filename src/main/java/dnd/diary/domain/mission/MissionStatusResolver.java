@@ -0,0 +1,46 @@
+package dnd.diary.domain.mission;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 미션 시작일/종료일로 현재 미션 상태 계산
+ * - 미션 기간은 서울 기준 시작일 00:00:00 ~ 종료일 23:59:59 로 저장하고, 서울 기준 현재 시각과 비교
+ * - 시작일 이전 : READY, 종료일 이후 : FINISH, 그 외 : ACTIVE
+ * - 기간이 없는 미션은 종료일이 없으므로 시작 후 항상 ACTIVE
+ * 조회 조건은 MissionRepositoryImpl.missionStatusIn 과 동일한 기준으로 처리
+ */
+public class MissionStatusResolver {
+
+    private MissionStatusResolver() {
+    }
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+    }
+
+    // 미션 시작 시각 - 시작일 00:00:00
+    public static LocalDateTime missionStartDate(LocalDate date) {
+        return date.atStartOfDay();
+    }
+
+    // 미션 종료 시각 - 종료일 23:59:59
+    public static LocalDateTime missionEndDate(LocalDate date) {
+        return date.atTime(23, 59, 59);
+    }
+
+    public static MissionStatus resolve(Mission mission, LocalDateTime now) {
+        return resolve(mission.getMissionStartDate(), mission.getMissionEndDate(), now);
+    }
+
+    public static MissionStatus resolve(LocalDateTime missionStartDate, LocalDateTime missionEndDate, LocalDateTime now) {
+        if (missionEndDate != null && now.isAfter(missionEndDate)) {
+            return MissionStatus.FINISH;
+        }
+        if (missionStartDate != null && now.isBefore(missionStartDate)) {
+            return MissionStatus.READY;
+        }
+        return MissionStatus.ACTIVE;
+    }
+}
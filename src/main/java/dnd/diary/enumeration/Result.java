@@ -71,7 +71,10 @@ public enum Result {
 	NOT_SAVE_EMOTION_DELETE(2305, "아직 공감을 등록하지 않아 공감 삭제 요청을 할 수 없습니다."),
 
 	// 파일 관련
-	FAIL_IMAGE_UPLOAD(2000, "파일 업로드 실패");
+	FAIL_IMAGE_UPLOAD(2000, "파일 업로드 실패"),
+	INVALID_UPLOAD_FILE(2001, "업로드를 요청하지 않았거나 만료된 파일입니다."),
+	NOT_SUPPORTED_UPLOAD_FILE(2002, "업로드할 수 없는 파일입니다."),
+	EXCEED_UPLOAD_FILE_COUNT(2003, "한 번에 업로드할 수 있는 파일 수를 초과했습니다.");
 
 	private final int code;
 	private final String message;
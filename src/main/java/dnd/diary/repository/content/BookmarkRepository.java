@@ -13,4 +13,7 @@ import java.util.List;
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Bookmark findByUserIdAndContentId(Long userId, Long contentId);
+
+    @Query("SELECT b.content.id FROM Bookmark b WHERE b.user.id = :userId AND b.content.id IN :contentIds")
+    List<Long> findContentIdListByUserIdAndContentIdIn(@Param("userId") Long userId, @Param("contentIds") List<Long> contentIds);
 }
@@ -1,5 +1,6 @@
 package dnd.diary.repository.content;
 
+import dnd.diary.domain.GeoPoint;
 import dnd.diary.domain.content.Content;
 import dnd.diary.response.content.ContentResponse;
 import org.springframework.data.domain.Page;
@@ -7,7 +8,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ContentCustomRepository {
     Page<Content> searchMyCommentPosts(Long userId, PageRequest pageRequest);
@@ -17,5 +21,18 @@ public interface ContentCustomRepository {
             Double endLatitude, Double startLatitude,
             Double startLongitude, Double endLongitude, Long userId
     );
-    Long countDuplicateLocation(String location, Long userId);
+    Optional<Content> findDetailContent(Long contentId);
+    List<GeoPoint> findMapPoints(
+            List<Long> groupIds, double minLatitude, double maxLatitude, double minLongitude, double maxLongitude
+    );
+    ContentResponse.ViewerStatus findViewerStatus(Long contentId, Long userId);
+    List<Content> findGroupFeedByCursor(
+            List<Long> groupIds, LocalDateTime lastCreatedAt, Long lastContentId, int size
+    );
+    Map<String, Long> countDuplicateLocations(List<String> locations, List<Long> groupIds);
+    Map<Long, String> findThumbnailUrls(List<Long> contentIds);
+    List<ContentResponse.MapCluster> findMapClusters(
+            List<Long> groupIds, double minLatitude, double maxLatitude,
+            double minLongitude, double maxLongitude, double cellSize
+    );
 }
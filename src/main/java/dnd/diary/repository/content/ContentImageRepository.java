@@ -2,9 +2,11 @@ package dnd.diary.repository.content;
 
 import dnd.diary.domain.content.ContentImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,5 +16,15 @@ public interface ContentImageRepository extends JpaRepository<ContentImage, Long
     @Query(value = "SELECT c.image_name FROM content_image AS c WHERE content_id = :content_id", nativeQuery = true)
     List<String> findImageNameList(@Param("content_id") Long contentId);
     List<ContentImage> findByContentId(Long contentId);
-    Optional<ContentImage> findByImageName(String imageName);
+
+    @Modifying
+    @Query("DELETE FROM ContentImage ci WHERE ci.content.id = :contentId")
+    int deleteByContentIdInBatch(@Param("contentId") Long contentId);
+    // 같은 파일을 사용하는 이미지 중 축소본이 이미 만들어진 이미지
+    Optional<ContentImage> findFirstByImageNameAndThumbnailUrlIsNotNull(String imageName);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContentImage ci SET ci.thumbnailUrl = :thumbnailUrl, ci.mediumUrl = :mediumUrl WHERE ci.id = :id")
+    int updateVariantUrls(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl, @Param("mediumUrl") String mediumUrl);
 }
@@ -0,0 +1,27 @@
+package dnd.diary.repository.content;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 조회수는 증가만 하므로, 이미 더 큰 값이 반영되어 있다면 덮어쓰지 않음
+    public void batchUpdateViews(Map<Long, Long> viewsByContentId) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        viewsByContentId.forEach((contentId, views) -> batchArgs.add(new Object[]{views, contentId}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE content SET views = GREATEST(views, ?) WHERE content_id = ?",
+                batchArgs
+        );
+    }
+}
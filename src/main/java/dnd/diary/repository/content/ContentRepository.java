@@ -29,4 +29,24 @@ public interface ContentRepository extends JpaRepository<Content, Long>, Content
     List<Content> findByLocationAndGroupIdInAndDeletedYn(String location, List<Long> groupId, Boolean deletedYn);
 
     Optional<Content> findByIdAndDeletedYn(Long contentId, Boolean deletedYn);
+
+    @Query(value = "select c.* from content c\n" +
+            "inner join user_join_group ujg on ujg.group_id = c.group_id and ujg.deleted = false\n" +
+            "where ujg.user_id = ?1 and c.deleted_yn = false and c.delete_at is null and c.latitude is not null\n" +
+            "and MBRContains(ST_GeomFromText(?2), c.point) ;",
+            nativeQuery = true)
+    List<Content> findWithinMapByUserId(Long userId, String polygonWKT);
+
+    // ngram FULLTEXT INDEX 검색 - 관련도, 최신순 정렬
+    @Query(value = "select c.* from content c\n" +
+            "where c.group_id in (:groupIds) and c.deleted_yn = false and c.delete_at is null\n" +
+            "and match(c.content) against (:word in boolean mode)\n" +
+            "order by match(c.content) against (:word in boolean mode) desc, c.created_at desc",
+            countQuery = "select count(*) from content c\n" +
+                    "where c.group_id in (:groupIds) and c.deleted_yn = false and c.delete_at is null\n" +
+                    "and match(c.content) against (:word in boolean mode)",
+            nativeQuery = true)
+    Page<Content> searchFullTextMyGroupContent(
+            @Param("word") String word, @Param("groupIds") List<Long> groupIds, Pageable pageable
+    );
 }
@@ -1,10 +1,13 @@
 package dnd.diary.repository.content;
 
 import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import dnd.diary.domain.GeoPoint;
 import dnd.diary.domain.bookmark.QBookmark;
 import dnd.diary.domain.content.Content;
 import dnd.diary.domain.content.QContentImage;
@@ -20,12 +23,18 @@ import org.springframework.data.support.PageableExecutionUtils;
 
 import javax.persistence.EntityManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static dnd.diary.domain.bookmark.QBookmark.*;
 import static dnd.diary.domain.comment.QComment.*;
 import static dnd.diary.domain.content.QContent.*;
 import static dnd.diary.domain.content.QContentImage.*;
+import static dnd.diary.domain.content.QEmotion.emotion;
 import static dnd.diary.domain.group.QGroup.group;
 import static dnd.diary.domain.user.QUser.*;
 import static dnd.diary.domain.user.QUserJoinGroup.userJoinGroup;
@@ -77,7 +86,7 @@ public class ContentRepositoryImpl implements ContentCustomRepository {
                         group.id.in(groupId),
                         content1.deletedYn.isFalse(),
                         content1.content.containsIgnoreCase(word))
-                .orderBy(content1.content.desc())
+                .orderBy(content1.createdAt.desc(), content1.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -86,7 +95,10 @@ public class ContentRepositoryImpl implements ContentCustomRepository {
                 .select(content1.count())
                 .from(content1)
                 .innerJoin(content1.group, group)
-                .where(group.id.in(groupId), content1.deletedYn.isFalse());
+                .where(
+                        group.id.in(groupId),
+                        content1.deletedYn.isFalse(),
+                        content1.content.containsIgnoreCase(word));
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
@@ -104,17 +116,166 @@ public class ContentRepositoryImpl implements ContentCustomRepository {
                 .fetch();
     }
 
+    // 게시물 상세 조회 - 작성자, 그룹, 이미지를 한 번에 조회
+    @Override
+    public Optional<Content> findDetailContent(Long contentId) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(content1)
+                .distinct()
+                .innerJoin(content1.user, user).fetchJoin()
+                .innerJoin(content1.group, group).fetchJoin()
+                .leftJoin(content1.contentImages, contentImage).fetchJoin()
+                .where(
+                        content1.id.eq(contentId),
+                        content1.deletedYn.isFalse())
+                .fetchOne());
+    }
+
+    // 조회한 사용자의 공감 상태와 북마크 여부를 한 번에 조회
     @Override
-    public Long countDuplicateLocation(String location, Long userId) {
+    public ContentResponse.ViewerStatus findViewerStatus(Long contentId, Long userId) {
         return queryFactory
-                .select(content1.count())
+                .select(Projections.fields(ContentResponse.ViewerStatus.class,
+                        ExpressionUtils.as(
+                                JPAExpressions.select(emotion.emotionStatus.max())
+                                        .from(emotion)
+                                        .where(
+                                                emotion.content.id.eq(contentId),
+                                                emotion.user.id.eq(userId),
+                                                emotion.emotionYn.isTrue()),
+                                "emotionStatus"),
+                        ExpressionUtils.as(
+                                JPAExpressions.select(bookmark.count())
+                                        .from(bookmark)
+                                        .where(
+                                                bookmark.content.id.eq(contentId),
+                                                bookmark.user.id.eq(userId)),
+                                "bookmarkCount")
+                ))
+                .from(content1)
+                .where(content1.id.eq(contentId))
+                .fetchOne();
+    }
+
+    // 지도 타일 캐시 적재용 - 타일 범위 내 게시물 ID/좌표만 조회
+    @Override
+    public List<GeoPoint> findMapPoints(
+            List<Long> groupIds, double minLatitude, double maxLatitude, double minLongitude, double maxLongitude
+    ) {
+        if (groupIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory
+                .select(Projections.constructor(GeoPoint.class,
+                        content1.id,
+                        content1.latitude,
+                        content1.longitude))
                 .from(content1)
-                .innerJoin(content1.group, group)
                 .where(
-                        group.id.in(getMyGroupIds(userId)),
+                        content1.group.id.in(groupIds),
                         content1.deletedYn.isFalse(),
-                        content1.location.eq(location))
-                .fetchOne();
+                        content1.latitude.between(minLatitude, maxLatitude),
+                        content1.longitude.between(minLongitude, maxLongitude))
+                .fetch();
+    }
+
+    // 그룹 피드 커서 조회 - (createdAt, id) 보다 이전 게시물을 size 만큼 조회, count 쿼리 없음
+    @Override
+    public List<Content> findGroupFeedByCursor(
+            List<Long> groupIds, LocalDateTime lastCreatedAt, Long lastContentId, int size
+    ) {
+        if (groupIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory
+                .selectFrom(content1)
+                .innerJoin(content1.user, user).fetchJoin()
+                .innerJoin(content1.group, group).fetchJoin()
+                .where(
+                        content1.group.id.in(groupIds),
+                        content1.deletedYn.isFalse(),
+                        beforeCursor(lastCreatedAt, lastContentId))
+                .orderBy(content1.createdAt.desc(), content1.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime lastCreatedAt, Long lastContentId) {
+        if (lastCreatedAt == null || lastContentId == null) {
+            return null;
+        }
+        return content1.createdAt.lt(lastCreatedAt)
+                .or(content1.createdAt.eq(lastCreatedAt).and(content1.id.lt(lastContentId)));
+    }
+
+    // 장소별 게시물 수 - 지도에 표시되는 장소 목록을 한 번에 집계
+    @Override
+    public Map<String, Long> countDuplicateLocations(List<String> locations, List<Long> groupIds) {
+        Map<String, Long> counts = new HashMap<>();
+        if (locations.isEmpty() || groupIds.isEmpty()) {
+            return counts;
+        }
+        queryFactory
+                .select(content1.location, content1.count())
+                .from(content1)
+                .where(
+                        content1.group.id.in(groupIds),
+                        content1.deletedYn.isFalse(),
+                        content1.location.in(locations))
+                .groupBy(content1.location)
+                .fetch()
+                .forEach(tuple -> counts.put(tuple.get(content1.location), tuple.get(content1.count())));
+        return counts;
+    }
+
+    // 게시물별 첫 번째 이미지 URL - 축소 이미지가 없으면 원본
+    @Override
+    public Map<Long, String> findThumbnailUrls(List<Long> contentIds) {
+        Map<Long, String> thumbnailUrls = new HashMap<>();
+        if (contentIds.isEmpty()) {
+            return thumbnailUrls;
+        }
+        QContentImage firstImage = new QContentImage("firstImage");
+        StringExpression thumbnailUrl = contentImage.thumbnailUrl.coalesce(contentImage.imageUrl);
+        queryFactory
+                .select(contentImage.content.id, thumbnailUrl)
+                .from(contentImage)
+                .where(contentImage.id.in(
+                        JPAExpressions.select(firstImage.id.min())
+                                .from(firstImage)
+                                .where(firstImage.content.id.in(contentIds))
+                                .groupBy(firstImage.content.id)))
+                .fetch()
+                .forEach(tuple -> thumbnailUrls.put(tuple.get(contentImage.content.id), tuple.get(thumbnailUrl)));
+        return thumbnailUrls;
+    }
+
+    // 지도 범위를 cellSize 격자로 나누어 격자별 게시물 수, 평균 좌표, 대표 게시물을 한 번에 집계
+    @Override
+    public List<ContentResponse.MapCluster> findMapClusters(
+            List<Long> groupIds, double minLatitude, double maxLatitude,
+            double minLongitude, double maxLongitude, double cellSize
+    ) {
+        if (groupIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory
+                .select(Projections.fields(ContentResponse.MapCluster.class,
+                        content1.latitude.avg().as("latitude"),
+                        content1.longitude.avg().as("longitude"),
+                        content1.count().as("counts"),
+                        content1.location.countDistinct().as("locationCount"),
+                        content1.id.min().as("contentId")))
+                .from(content1)
+                .where(
+                        content1.group.id.in(groupIds),
+                        content1.deletedYn.isFalse(),
+                        content1.latitude.between(minLatitude, maxLatitude),
+                        content1.longitude.between(minLongitude, maxLongitude))
+                .groupBy(
+                        content1.latitude.divide(cellSize).floor(),
+                        content1.longitude.divide(cellSize).floor())
+                .fetch();
     }
 
     private List<Long> getMyGroupIds(Long userId) {
@@ -10,4 +10,5 @@ public interface EmotionRepository extends JpaRepository<Emotion, Long> {
     List<Emotion> findByContentId(Long contentId);
     Emotion findByContentIdAndUserId(Long contentId, Long userId);
     Optional<Emotion> findByContentIdAndUserIdAndEmotionYn(Long contentId, Long userId, boolean emotionYn);
+    List<Emotion> findByContentIdInAndUserIdAndEmotionYn(List<Long> contentIds, Long userId, boolean emotionYn);
 }
@@ -0,0 +1,31 @@
+package dnd.diary.repository.content;
+
+import dnd.diary.domain.content.ImageDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+    // 아무 서버도 맡지 않았거나 맡은 지 오래된 파일 - 삭제를 맡는(claim) 짧은 트랜잭션 동안만 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM ImageDeletion d WHERE d.attemptCount < :maxAttemptCount " +
+            "AND (d.claimedAt IS NULL OR d.claimedAt < :claimExpiredAt) ORDER BY d.id")
+    List<ImageDeletion> findClaimableForUpdate(@Param("maxAttemptCount") int maxAttemptCount,
+                                               @Param("claimExpiredAt") LocalDateTime claimExpiredAt,
+                                               Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ImageDeletion d SET d.claimedAt = :claimedAt, d.attemptCount = d.attemptCount + 1 WHERE d.id IN :ids")
+    void claim(@Param("ids") Collection<Long> ids, @Param("claimedAt") LocalDateTime claimedAt);
+}
@@ -0,0 +1,35 @@
+package dnd.diary.repository.content;
+
+import dnd.diary.domain.content.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    // 참조 수 변경은 게시물 수정 트랜잭션 안에서도 실행되므로 영속성 컨텍스트를 비우지 않음 (수정 중인 게시물이 준영속 상태가 되지 않도록)
+
+    Optional<StoredImage> findByHash(String hash);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.referenceCount = s.referenceCount + 1 WHERE s.hash = :hash")
+    int increaseReferenceCount(@Param("hash") String hash);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.referenceCount = s.referenceCount - 1 WHERE s.fileName = :fileName")
+    int decreaseReferenceCount(@Param("fileName") String fileName);
+
+    // 참조가 남아 있지 않은 경우에만 삭제 - 그 사이 다시 참조된 이미지는 삭제하지 않음
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredImage s WHERE s.fileName = :fileName AND s.referenceCount <= 0")
+    int deleteUnreferenced(@Param("fileName") String fileName);
+}
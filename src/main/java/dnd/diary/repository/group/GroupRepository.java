@@ -12,4 +12,5 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 	Boolean existsByGroupName(String groupName);
 	List<Group> findByGroupNameContainingIgnoreCaseOrGroupNoteContainingIgnoreCaseAndDeletedYn(String groupName, String groupNote, boolean deletedYn);
 	Optional<Group> findByIdAndDeletedYn(Long groupId, boolean deletedYn);
+	long countByIdIn(List<Long> groupIds);
 }
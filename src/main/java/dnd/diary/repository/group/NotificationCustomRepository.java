@@ -0,0 +1,13 @@
+package dnd.diary.repository.group;
+
+import dnd.diary.domain.group.Notification;
+import dnd.diary.domain.group.NotificationType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface NotificationCustomRepository {
+    Page<Notification> findNotificationPage(Long userId, List<NotificationType> notificationTypes, Pageable pageable);
+    List<Notification> findInviteNotificationList(Long userId);
+}
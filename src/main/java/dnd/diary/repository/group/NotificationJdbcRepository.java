@@ -0,0 +1,54 @@
+package dnd.diary.repository.group;
+
+import dnd.diary.domain.group.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 발행 대기 이벤트를 수신자별 알림으로 펼쳐 일괄 저장 - 알림 생성 시각은 이벤트 발생 시각
+    public void batchInsert(List<NotificationOutbox> outboxes) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (NotificationOutbox outbox : outboxes) {
+            Timestamp createdAt = Timestamp.valueOf(outbox.getCreatedAt() == null
+                    ? LocalDateTime.now(ZoneId.of("Asia/Seoul")) : outbox.getCreatedAt());
+            for (Long recipientId : outbox.getRecipientIdList()) {
+                batchArgs.add(new Object[]{
+                        outbox.getContentId(), outbox.getCommentId(), outbox.getEmotionId(), outbox.getCommentLikeId(),
+                        outbox.getGroupId(), outbox.getNewGroupUserId(), recipientId,
+                        outbox.getNotificationType().name(), createdAt, createdAt
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notification (content_id, comment_id, emotion_id, comment_like_id, group_id, new_group_user_id, " +
+                        "user_id, read_yn, notification_type, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, false, ?, ?, ?)",
+                batchArgs
+        );
+    }
+
+    // 새로운 알림 여부 일괄 갱신
+    public void batchUpdateNewNotification(Collection<Long> userIds) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        userIds.forEach(userId -> batchArgs.add(new Object[]{userId}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE users SET is_new_notification = true WHERE user_id = ?",
+                batchArgs
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package dnd.diary.repository.group;
+
+import dnd.diary.domain.group.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 여러 서버에서 동시에 발행하더라도 같은 이벤트를 중복 발행하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.attemptCount < :maxAttemptCount ORDER BY o.id")
+    List<NotificationOutbox> findPendingForUpdate(@Param("maxAttemptCount") int maxAttemptCount, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.id = :id AND o.attemptCount < :maxAttemptCount")
+    Optional<NotificationOutbox> findPendingByIdForUpdate(@Param("id") Long id, @Param("maxAttemptCount") int maxAttemptCount);
+
+    @Query("SELECT o.id FROM NotificationOutbox o WHERE o.attemptCount < :maxAttemptCount ORDER BY o.id")
+    List<Long> findPendingIdList(@Param("maxAttemptCount") int maxAttemptCount, Pageable pageable);
+
+    // deleteAllInBatch 는 수신자 테이블을 함께 삭제하지 않으므로 먼저 삭제
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox_recipient WHERE notification_outbox_id IN :ids", nativeQuery = true)
+    void deleteRecipientsByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationOutbox o SET o.attemptCount = o.attemptCount + 1 WHERE o.id = :id")
+    void increaseAttemptCount(@Param("id") Long id);
+}
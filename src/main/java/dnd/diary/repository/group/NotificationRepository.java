@@ -1,13 +1,27 @@
 package dnd.diary.repository.group;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dnd.diary.domain.group.Notification;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationCustomRepository {
     Optional<Notification> findByContentIdAndEmotionIdAndUserId(Long contentId, Long emotionId, Long userId);
+    long countByUserId(Long userId);
+    long countByUserIdAndReadYn(Long userId, boolean readYn);
+
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS unreadCount FROM Notification n " +
+            "WHERE n.user.id IN :userIds AND n.readYn = false GROUP BY n.user.id")
+    List<UnreadCount> countUnreadGroupByUserId(@Param("userIds") List<Long> userIds);
+
+    interface UnreadCount {
+        Long getUserId();
+        Long getUnreadCount();
+    }
 }
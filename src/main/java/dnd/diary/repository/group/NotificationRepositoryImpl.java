@@ -0,0 +1,115 @@
+package dnd.diary.repository.group;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import dnd.diary.domain.content.QContent;
+import dnd.diary.domain.group.Notification;
+import dnd.diary.domain.group.NotificationType;
+import dnd.diary.domain.group.QGroup;
+import dnd.diary.domain.user.QUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static dnd.diary.domain.comment.QComment.comment;
+import static dnd.diary.domain.comment.QCommentLike.commentLike;
+import static dnd.diary.domain.content.QEmotion.emotion;
+import static dnd.diary.domain.group.QInvite.invite;
+import static dnd.diary.domain.group.QNotification.notification;
+
+public class NotificationRepositoryImpl implements NotificationCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public NotificationRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    // 알림 목록 - 알림 종류별 응답에 필요한 연관 엔티티를 한 번에 조회
+    @Override
+    public Page<Notification> findNotificationPage(Long userId, List<NotificationType> notificationTypes, Pageable pageable) {
+        QContent notificationContent = new QContent("notificationContent");
+        QGroup contentGroup = new QGroup("contentGroup");
+        QContent commentContent = new QContent("commentContent");
+        QGroup commentContentGroup = new QGroup("commentContentGroup");
+        QGroup notificationGroup = new QGroup("notificationGroup");
+        QUser commentUser = new QUser("commentUser");
+        QUser emotionUser = new QUser("emotionUser");
+        QUser commentLikeUser = new QUser("commentLikeUser");
+        QUser newGroupUser = new QUser("newGroupUser");
+
+        List<Notification> notifications = queryFactory
+                .selectFrom(notification)
+                .leftJoin(notification.content, notificationContent).fetchJoin()
+                .leftJoin(notificationContent.group, contentGroup).fetchJoin()
+                .leftJoin(notification.comment, comment).fetchJoin()
+                .leftJoin(comment.user, commentUser).fetchJoin()
+                .leftJoin(comment.content, commentContent).fetchJoin()
+                .leftJoin(commentContent.group, commentContentGroup).fetchJoin()
+                .leftJoin(notification.emotion, emotion).fetchJoin()
+                .leftJoin(emotion.user, emotionUser).fetchJoin()
+                .leftJoin(notification.commentLike, commentLike).fetchJoin()
+                .leftJoin(commentLike.user, commentLikeUser).fetchJoin()
+                .leftJoin(notification.group, notificationGroup).fetchJoin()
+                .leftJoin(notification.newGroupUser, newGroupUser).fetchJoin()
+                .where(
+                        notification.user.id.eq(userId),
+                        notification.notificationType.in(notificationTypes),
+                        hasNotificationTarget())
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(notification.count())
+                .from(notification)
+                .where(
+                        notification.user.id.eq(userId),
+                        notification.notificationType.in(notificationTypes),
+                        hasNotificationTarget());
+
+        return PageableExecutionUtils.getPage(notifications, pageable, countQuery::fetchOne);
+    }
+
+    // 초대 알림 목록 - 초대된 그룹, 그룹 생성자까지 한 번에 조회
+    @Override
+    public List<Notification> findInviteNotificationList(Long userId) {
+        QGroup invitedGroup = new QGroup("invitedGroup");
+        QUser groupCreateUser = new QUser("groupCreateUser");
+
+        return queryFactory
+                .selectFrom(notification)
+                .innerJoin(notification.invite, invite).fetchJoin()
+                .innerJoin(invite.group, invitedGroup).fetchJoin()
+                .leftJoin(invitedGroup.groupCreateUser, groupCreateUser).fetchJoin()
+                .where(
+                        notification.user.id.eq(userId),
+                        notification.notificationType.eq(NotificationType.INVITE))
+                .orderBy(notification.id.asc())
+                .fetch();
+    }
+
+    // 알림 대상(게시물, 댓글, 공감 등) 정보가 없는 알림 제외
+    private BooleanExpression hasNotificationTarget() {
+        return notification.notificationType.eq(NotificationType.CONTENT_COMMENT)
+                .and(notification.content.id.isNotNull())
+                .and(notification.comment.id.isNotNull())
+                .or(notification.notificationType.eq(NotificationType.CONTENT_EMOTION)
+                        .and(notification.content.id.isNotNull())
+                        .and(notification.emotion.id.isNotNull()))
+                .or(notification.notificationType.eq(NotificationType.COMMENT_LIKE)
+                        .and(notification.comment.id.isNotNull())
+                        .and(notification.commentLike.id.isNotNull()))
+                .or(notification.notificationType.eq(NotificationType.NEW_GROUP_MEMBER)
+                        .and(notification.group.id.isNotNull())
+                        .and(notification.newGroupUser.id.isNotNull())
+                        .and(notification.content.id.isNotNull()))
+                .or(notification.notificationType.eq(NotificationType.INVITE)
+                        .and(notification.invite.id.isNotNull()));
+    }
+}
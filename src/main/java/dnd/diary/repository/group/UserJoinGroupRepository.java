@@ -12,4 +12,17 @@ import java.util.List;
 public interface UserJoinGroupRepository extends JpaRepository<UserJoinGroup, Long> {
     List<UserJoinGroup> findByUserId(Long userId);
     UserJoinGroup findUserJoinGroupByUserIdAndGroupId(Long userId, Long groupId);
+
+    @Query("SELECT ujg.group.id FROM UserJoinGroup ujg WHERE ujg.user.id = :userId")
+    List<Long> findGroupIdListByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT ujg.user.id FROM UserJoinGroup ujg WHERE ujg.group.id = :groupId")
+    List<Long> findUserIdListByGroupId(@Param("groupId") Long groupId);
+
+    // 구성원 수가 memberCount 를 초과하는 그룹
+    @Query("SELECT ujg.group.id FROM UserJoinGroup ujg WHERE ujg.group.id IN :groupIds " +
+            "GROUP BY ujg.group.id HAVING COUNT(ujg) > :memberCount")
+    List<Long> findGroupIdListByMemberCountGreaterThan(
+            @Param("groupIds") List<Long> groupIds, @Param("memberCount") long memberCount
+    );
 }
@@ -0,0 +1,12 @@
+package dnd.diary.repository.mission;
+
+import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.response.mission.MissionResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MissionCustomRepository {
+    List<MissionResponse.MissionRow> findIncompleteMissionRowList(Long userId, List<MissionStatus> missionStatuses, LocalDateTime now);
+    List<MissionResponse.MissionRow> findIncompleteGroupMissionRowList(Long userId, Long groupId, List<MissionStatus> missionStatuses, LocalDateTime now, int limit);
+}
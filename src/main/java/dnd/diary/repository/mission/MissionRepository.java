@@ -1,22 +1,60 @@
 package dnd.diary.repository.mission;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dnd.diary.domain.mission.Mission;
+import dnd.diary.domain.mission.MissionStatus;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface MissionRepository extends JpaRepository<Mission, Long> {
+public interface MissionRepository extends JpaRepository<Mission, Long>, MissionCustomRepository {
 
-    @Query(value = "select * from mission\n" +
-            "where latitude between ?1 and ?2 and longitude between ?3 and ?4 ;",
+    // 유저에게 할당된 미완료 미션 중 지도 범위 내에 존재하는 미션
+    @Query(value = "select m.* from mission m\n" +
+            "inner join user_assign_mission uam on uam.mission_id = m.mission_id\n" +
+            "where uam.user_id = ?1 and uam.deleted = false and uam.is_complete = false\n" +
+            "and m.deleted = false and m.deleted_yn = false\n" +
+            "and m.latitude between ?2 and ?3 and m.longitude between ?4 and ?5 ;",
             nativeQuery = true)
-    List<Mission> findWithinMap(Double startX, Double endX, Double startY, Double endY);
+    List<Mission> findWithinMapByUserId(Long userId, Double startX, Double endX, Double startY, Double endY);
+
+    @Query(value = "select m.* from mission m\n" +
+            "inner join user_assign_mission uam on uam.mission_id = m.mission_id\n" +
+            "where uam.user_id = ?1 and uam.deleted = false and uam.is_complete = false\n" +
+            "and m.deleted = false and m.deleted_yn = false\n" +
+            "and MBRContains(ST_GeomFromText(?2), m.point) ;",
+            nativeQuery = true)
+    List<Mission> findWithinMapByUserId(Long userId, String polygonWKT);
 
     List<Mission> findByGroupId(Long groupId);
 
     Mission findMissionByIdAndDeletedYn(Long missionId, boolean deletedYn);
+
+    // 종료일이 지난 미션 -> FINISH, 종료 시각은 종료일 23:59:59 이므로 오늘 00:00:00 이전이면 종료
+    // (스케줄러가 실행되지 않은 날이 있어도 READY 에서 바로 종료되도록 fromStatuses 로 지정)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Mission m SET m.missionStatus = :finishStatus " +
+            "WHERE m.missionStatus IN :fromStatuses AND m.missionEndDate < :todayStart AND m.deletedYn = false")
+    int updateFinishedMissionStatus(@Param("fromStatuses") List<MissionStatus> fromStatuses,
+                                    @Param("finishStatus") MissionStatus finishStatus,
+                                    @Param("todayStart") LocalDateTime todayStart);
+
+    // 시작일이 된 미션 -> ACTIVE (기간이 없는 미션은 종료일 없음)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Mission m SET m.missionStatus = :activeStatus " +
+            "WHERE m.missionStatus = :readyStatus AND m.missionStartDate < :tomorrowStart " +
+            "AND (m.missionEndDate IS NULL OR m.missionEndDate >= :todayStart) AND m.deletedYn = false")
+    int updateStartedMissionStatus(@Param("readyStatus") MissionStatus readyStatus,
+                                   @Param("activeStatus") MissionStatus activeStatus,
+                                   @Param("todayStart") LocalDateTime todayStart,
+                                   @Param("tomorrowStart") LocalDateTime tomorrowStart);
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package dnd.diary.repository.mission;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import dnd.diary.domain.group.QGroup;
+import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.domain.user.QUser;
+import dnd.diary.response.mission.MissionResponse;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static dnd.diary.domain.mission.QMission.mission;
+import static dnd.diary.domain.mission.QUserAssignMission.userAssignMission;
+
+public class MissionRepositoryImpl implements MissionCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public MissionRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 사용자에게 할당된 미완료 미션 중 현재 상태가 missionStatuses 인 미션
+     * 미션, 그룹, 미션 생성자, 할당 현황을 한 번에 조회하고 종료일이 가까운 순(d-day 순)으로 정렬 - 기간이 없는 미션은 마지막
+     */
+    @Override
+    public List<MissionResponse.MissionRow> findIncompleteMissionRowList(Long userId, List<MissionStatus> missionStatuses, LocalDateTime now) {
+        return missionRowQuery(userId, missionStatuses, now)
+                .fetch();
+    }
+
+    // 그룹 내 미션 중 상위 limit 개 (그룹 메인 페이지)
+    @Override
+    public List<MissionResponse.MissionRow> findIncompleteGroupMissionRowList(
+            Long userId, Long groupId, List<MissionStatus> missionStatuses, LocalDateTime now, int limit
+    ) {
+        return missionRowQuery(userId, missionStatuses, now)
+                .where(mission.group.id.eq(groupId))
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<MissionResponse.MissionRow> missionRowQuery(Long userId, List<MissionStatus> missionStatuses, LocalDateTime now) {
+        QGroup missionGroup = new QGroup("missionGroup");
+        QUser missionCreateUser = new QUser("missionCreateUser");
+
+        return queryFactory
+                .select(Projections.fields(MissionResponse.MissionRow.class,
+                        mission.id.as("missionId"),
+                        mission.missionName,
+                        mission.missionNote,
+                        missionCreateUser.id.as("createUserId"),
+                        missionCreateUser.nickName.as("createUserName"),
+                        missionCreateUser.profileImageUrl.as("createUserProfileImageUrl"),
+                        missionGroup.id.as("groupId"),
+                        missionGroup.groupName,
+                        missionGroup.groupImageUrl,
+                        mission.existPeriod,
+                        mission.missionStartDate,
+                        mission.missionEndDate,
+                        mission.missionLocationName,
+                        mission.missionLocationAddress,
+                        mission.latitude,
+                        mission.longitude,
+                        mission.missionColor,
+                        userAssignMission.locationCheck,
+                        userAssignMission.contentCheck,
+                        userAssignMission.isComplete))
+                .from(userAssignMission)
+                .innerJoin(userAssignMission.mission, mission)
+                .innerJoin(mission.group, missionGroup)
+                .innerJoin(mission.missionCreateUser, missionCreateUser)
+                .where(
+                        userAssignMission.user.id.eq(userId),
+                        userAssignMission.deleted.isFalse(),
+                        userAssignMission.isComplete.isFalse(),
+                        mission.deleted.isFalse(),
+                        mission.deletedYn.isFalse(),
+                        missionStatusIn(missionStatuses, now))
+                .orderBy(mission.missionEndDate.asc().nullsLast(), mission.id.asc());
+    }
+
+    // 미션 상태를 저장된 값이 아닌 시작일/종료일 기준으로 판단 (MissionStatusResolver 와 동일한 기준)
+    private Predicate missionStatusIn(List<MissionStatus> missionStatuses, LocalDateTime now) {
+        if (missionStatuses.isEmpty() || missionStatuses.contains(MissionStatus.ALL)) {
+            return null;
+        }
+
+        BooleanBuilder condition = new BooleanBuilder();
+        missionStatuses.forEach(missionStatus -> condition.or(missionStatusEq(missionStatus, now)));
+        return condition;
+    }
+
+    private BooleanExpression missionStatusEq(MissionStatus missionStatus, LocalDateTime now) {
+        return switch (missionStatus) {
+            case READY -> mission.missionStartDate.after(now);
+            case ACTIVE -> mission.missionStartDate.isNull().or(mission.missionStartDate.loe(now))
+                    .and(mission.missionEndDate.isNull().or(mission.missionEndDate.goe(now)));
+            case FINISH -> mission.missionEndDate.before(now);
+            case ALL -> null;
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package dnd.diary.repository.mission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserAssignMissionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 사용자 x 미션 조합마다 미션 할당 - IDENTITY 전략으로 Hibernate 배치 INSERT 가 동작하지 않아 JDBC 로 일괄 저장
+    public void batchInsert(Collection<Long> userIds, Collection<Long> missionIds) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (Long missionId : missionIds) {
+                batchArgs.add(new Object[]{userId, missionId});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_assign_mission (user_id, mission_id, location_check, content_check, is_complete, deleted) " +
+                        "VALUES (?, ?, false, false, false, false)",
+                batchArgs
+        );
+    }
+}
@@ -1,12 +1,23 @@
 package dnd.diary.repository.mission;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dnd.diary.domain.mission.UserAssignMission;
 
+import java.util.Optional;
+
 @Repository
 public interface UserAssignMissionRepository extends JpaRepository<UserAssignMission, Long> {
 
     UserAssignMission findByUserIdAndMissionId(Long userId, Long missionId);
+
+    // 미션 인증 - 사용자에게 할당된 미션인지 확인하면서 미션, 그룹까지 한 번에 조회
+    @Query("SELECT uam FROM UserAssignMission uam " +
+            "JOIN FETCH uam.mission m JOIN FETCH m.group " +
+            "WHERE uam.user.id = :userId AND m.id = :missionId")
+    Optional<UserAssignMission> findWithMissionByUserIdAndMissionId(@Param("userId") Long userId, @Param("missionId") Long missionId);
+
 }
@@ -0,0 +1,19 @@
+package dnd.diary.request.controller.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UploadSlotRequest {
+
+    @NotBlank(message = "파일 이름은 필수입니다.")
+    private String fileName;        // 확장자 확인용 원본 파일 이름
+
+    @NotBlank(message = "파일 형식은 필수입니다.")
+    private String contentType;     // 업로드 시 Content-Type 헤더와 같아야 함
+}
@@ -0,0 +1,21 @@
+package dnd.diary.request.controller.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UploadSlotsRequest {
+
+    @Valid
+    @NotEmpty(message = "업로드할 파일 정보는 필수입니다.")
+    @Size(max = 10, message = "한 번에 업로드할 수 있는 파일은 최대 10개입니다.")
+    private List<UploadSlotRequest> uploadSlots;
+}
@@ -0,0 +1,13 @@
+package dnd.diary.response.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStatsResponse {
+	private long hitCount;
+	private long missCount;
+	private double hitRatio;
+	private int size;
+}
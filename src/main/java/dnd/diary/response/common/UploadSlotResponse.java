@@ -0,0 +1,15 @@
+package dnd.diary.response.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class UploadSlotResponse {
+	private String fileName;        // 업로드 확인 시 전달할 파일 이름
+	private String uploadUrl;       // PUT 요청 URL
+	private String fileUrl;         // 업로드 후 이미지 URL
+	private LocalDateTime expiredAt;    // uploadUrl 만료 시각
+}
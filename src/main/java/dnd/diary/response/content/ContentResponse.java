@@ -12,6 +12,9 @@ import java.util.stream.Collectors;
 
 public class ContentResponse {
 
+    private static final String DEFAULT_MAP_IMAGE_URL =
+            "https://dnd-diary-image-bucket.s3.ap-northeast-2.amazonaws.com/6f6b761a-8481-45b6-a6cc-9b48ff73c679.png";
+
     @NoArgsConstructor
     @Getter
     @ToString
@@ -256,31 +259,66 @@ public class ContentResponse {
         public static ContentResponse.LocationSearch response(
                 Content content, List<ContentResponse.ImageDetail> collect, Long counts
         ) {
-            if (collect.size() != 0){
-                return ContentResponse.LocationSearch.builder()
-                        .id(content.getId())
-                        .location(content.getLocation())
-                        .latitude(content.getLatitude())
-                        .longitude(content.getLongitude())
-                        .userId(content.getUser().getId())
-                        .groupId(content.getGroup().getId())
-                        .counts(counts)
-                        .contentImageUrl(collect.get(0).imageUrl)
-                        .deletedYn(content.isDeletedYn())
-                        .build();
-            } else {
-                return ContentResponse.LocationSearch.builder()
-                        .id(content.getId())
-                        .location(content.getLocation())
-                        .latitude(content.getLatitude())
-                        .longitude(content.getLongitude())
-                        .userId(content.getUser().getId())
-                        .groupId(content.getGroup().getId())
-                        .counts(counts)
-                        .contentImageUrl("https://dnd-diary-image-bucket.s3.ap-northeast-2.amazonaws.com/6f6b761a-8481-45b6-a6cc-9b48ff73c679.png")
-                        .deletedYn(content.isDeletedYn())
-                        .build();
-            }
+            return response(content, collect.size() != 0 ? collect.get(0).thumbnailUrl : null, counts);
+        }
+
+        // 대표 이미지가 없는 게시물은 기본 이미지로 응답
+        public static ContentResponse.LocationSearch response(
+                Content content, String contentImageUrl, Long counts
+        ) {
+            return ContentResponse.LocationSearch.builder()
+                    .id(content.getId())
+                    .location(content.getLocation())
+                    .latitude(content.getLatitude())
+                    .longitude(content.getLongitude())
+                    .userId(content.getUser().getId())
+                    .groupId(content.getGroup().getId())
+                    .counts(counts)
+                    .contentImageUrl(contentImageUrl != null ? contentImageUrl : DEFAULT_MAP_IMAGE_URL)
+                    .deletedYn(content.isDeletedYn())
+                    .build();
+        }
+    }
+
+    // 지도 축소 시 격자 단위로 묶은 게시물 묶음
+    @NoArgsConstructor
+    @Getter
+    public static class MapCluster {
+        private Double latitude;        // 묶음에 포함된 게시물 좌표의 평균
+        private Double longitude;
+        private Long counts;            // 묶음에 포함된 게시물 수
+        private Long locationCount;     // 묶음에 포함된 서로 다른 장소 수 (1 이면 같은 장소의 중복 게시물)
+        private Long contentId;         // 대표 게시물 ID
+        private String contentImageUrl;
+
+        public void updateContentImageUrl(String contentImageUrl) {
+            this.contentImageUrl = contentImageUrl != null ? contentImageUrl : DEFAULT_MAP_IMAGE_URL;
+        }
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Builder
+    public static class ClusteredMap {
+        private boolean clustered;
+        private List<MapCluster> clusters;
+        private List<LocationSearch> contents;
+
+        public static ContentResponse.ClusteredMap clusters(List<MapCluster> clusters) {
+            return ContentResponse.ClusteredMap.builder()
+                    .clustered(true)
+                    .clusters(clusters)
+                    .contents(List.of())
+                    .build();
+        }
+
+        public static ContentResponse.ClusteredMap contents(List<LocationSearch> contents) {
+            return ContentResponse.ClusteredMap.builder()
+                    .clustered(false)
+                    .clusters(List.of())
+                    .contents(contents)
+                    .build();
         }
     }
 
@@ -315,7 +353,7 @@ public class ContentResponse {
                         .groupName(content.getGroup().getGroupName())
                         .createAt(content.getCreatedAt().toString().substring(2, 10).replace("-", "."))
                         .contentImageSize(collect.size())
-                        .contentImageUrl(collect.get(0).imageUrl)
+                        .contentImageUrl(collect.get(0).thumbnailUrl)
                         .deletedYn(content.isDeletedYn())
                         .build();
             } else {
@@ -344,18 +382,59 @@ public class ContentResponse {
         private Long id;
         private String imageName;
         private String imageUrl;
+        private String thumbnailUrl;    // 목록용 축소 이미지 (생성 전에는 원본)
+        private String mediumUrl;       // 상세용 축소 이미지 (생성 전에는 원본)
         private Long contentId;
 
         public static ContentResponse.ImageDetail response(ContentImage contentImage) {
             return ContentResponse.ImageDetail.builder()
                     .id(contentImage.getId())
                     .imageUrl(contentImage.getImageUrl())
+                    .thumbnailUrl(contentImage.getThumbnailUrl() != null ? contentImage.getThumbnailUrl() : contentImage.getImageUrl())
+                    .mediumUrl(contentImage.getMediumUrl() != null ? contentImage.getMediumUrl() : contentImage.getImageUrl())
                     .imageName(contentImage.getImageName())
                     .contentId(contentImage.getContent().getId())
                     .build();
         }
     }
 
+    // 커서 기반 그룹 피드 - 다음 요청 시 lastCreatedAt, lastContentId 로 전달
+    @NoArgsConstructor
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Builder
+    public static class CursorPage {
+        private List<ContentResponse.GroupPage> contents;
+        private boolean hasNext;
+        private LocalDateTime lastCreatedAt;
+        private Long lastContentId;
+
+        public static ContentResponse.CursorPage response(List<ContentResponse.GroupPage> contents, boolean hasNext) {
+            ContentResponse.GroupPage last = contents.isEmpty() ? null : contents.get(contents.size() - 1);
+            return ContentResponse.CursorPage.builder()
+                    .contents(contents)
+                    .hasNext(hasNext)
+                    .lastCreatedAt(last != null ? last.getCreateAt() : null)
+                    .lastContentId(last != null ? last.getId() : null)
+                    .build();
+        }
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class ViewerStatus {
+        private Long emotionStatus;
+        private Long bookmarkCount;
+
+        public Long getEmotionStatusOrDefault() {
+            return emotionStatus == null ? -1L : emotionStatus;
+        }
+
+        public boolean isBookmarked() {
+            return bookmarkCount != null && bookmarkCount > 0;
+        }
+    }
+
     @NoArgsConstructor
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
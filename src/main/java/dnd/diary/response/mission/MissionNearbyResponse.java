@@ -0,0 +1,22 @@
+package dnd.diary.response.mission;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MissionNearbyResponse {
+
+    private Long missionId;
+    private String missionName;
+    private Long groupId;
+    private String missionLocationName;
+    private Double latitude;
+    private Double longitude;
+    private Integer distance;   // 현재 위치와 미션 위치 사이 거리 (m)
+
+}
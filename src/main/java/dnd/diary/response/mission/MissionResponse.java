@@ -43,6 +43,37 @@ public class MissionResponse {
 	@Setter
 	private UserAssignMissionInfo userAssignMissionInfo;
 
+	// 미션 목록 조회 - 미션, 그룹, 미션 생성자, 할당 현황을 한 번에 조회한 결과
+	@Getter
+	@NoArgsConstructor
+	public static class MissionRow {
+		private Long missionId;
+		private String missionName;
+		private String missionNote;
+
+		private Long createUserId;
+		private String createUserName;
+		private String createUserProfileImageUrl;
+
+		private Long groupId;
+		private String groupName;
+		private String groupImageUrl;
+
+		private Boolean existPeriod;
+		private LocalDateTime missionStartDate;
+		private LocalDateTime missionEndDate;
+
+		private String missionLocationName;
+		private String missionLocationAddress;
+		private Double latitude;
+		private Double longitude;
+		private Integer missionColor;
+
+		private Boolean locationCheck;
+		private Boolean contentCheck;
+		private Boolean isComplete;
+	}
+
 	@Getter
 	@Builder
 	@NoArgsConstructor
@@ -180,4 +180,5 @@ public class AllNotificationListResponse {
     }
 
     private long totalCount;
+    private boolean hasNext;
 }
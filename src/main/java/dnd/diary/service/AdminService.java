@@ -22,9 +22,11 @@ import dnd.diary.repository.mission.StickerGroupRepository;
 import dnd.diary.repository.mission.StickerRepository;
 import dnd.diary.repository.mission.UserStickerGroupRepository;
 import dnd.diary.repository.user.UserImageRepository;
+import dnd.diary.response.common.CacheStatsResponse;
 import dnd.diary.response.mission.StickerGroupResponse;
 import dnd.diary.response.mission.StickerResponse;
 import dnd.diary.service.mission.StickerValidator;
+import dnd.diary.service.map.MapTileCache;
 import dnd.diary.service.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 
@@ -40,6 +42,7 @@ public class AdminService {
 	private final UserStickerGroupRepository userStickerGroupRepository;
 	private final StickerValidator stickerValidator;
 	private final S3Service s3Service;
+	private final MapTileCache mapTileCache;
 
 	// 사용자 기본 프로필 등록
 	public void createUserProfileImage(List<MultipartFile> multipartFiles) {
@@ -184,4 +187,9 @@ public class AdminService {
 
 		return stickerResponses;
 	}
-}
\ No newline at end of file
+
+	// [관리자] 지도 타일 캐시 적중률 조회
+	public CacheStatsResponse getMapTileCacheStats() {
+		return mapTileCache.getStats();
+	}
+}
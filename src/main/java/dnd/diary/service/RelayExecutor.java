@@ -0,0 +1,38 @@
+package dnd.diary.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 테이블에 쌓인 작업을 별도 스레드에서 처리 (알림 발행, S3 파일 삭제)
+ * - 스레드 1개, 대기 작업 1개로 제한 - 한 번의 처리가 그 시점까지 쌓인 작업을 모두 처리하므로 대기 중일 때 들어온 추가 요청은 버림
+ * - 요청이 버려져도 처리할 작업은 테이블에 남아 있으므로 다음 처리 또는 주기적인 처리에서 처리
+ */
+public class RelayExecutor {
+
+	private final Runnable relay;
+	private final ThreadPoolExecutor executor;
+
+	public RelayExecutor(String threadName, Runnable relay) {
+		this.relay = relay;
+		this.executor = new ThreadPoolExecutor(
+				1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(1),
+				runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.DiscardPolicy()
+		);
+	}
+
+	public void request() {
+		executor.execute(relay);
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,24 @@
+package dnd.diary.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+	private TransactionUtil() {
+	}
+
+	// 현재 트랜잭션이 커밋된 후 실행 - 트랜잭션 밖이면 바로 실행 (롤백되면 실행하지 않음)
+	public static void afterCommit(Runnable runnable) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			runnable.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				runnable.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,73 @@
+package dnd.diary.service.content;
+
+import dnd.diary.config.AsyncConfig;
+import dnd.diary.domain.content.ContentImage;
+import dnd.diary.repository.content.ContentImageRepository;
+import dnd.diary.service.s3.ImageResizer;
+import dnd.diary.service.s3.ImageStore;
+import dnd.diary.service.s3.S3Uploader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시물 이미지 축소본 생성
+ * - 업로드가 끝난 원본을 내려받아 한 번만 디코딩한 뒤 목록용(thumbnail), 상세용(medium) JPEG 생성
+ * - 원본보다 크게 늘리지 않고, 실패하거나 생성 전인 이미지는 원본 URL 로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentImageVariantService {
+
+    static final int THUMBNAIL_WIDTH = 320;
+    static final int MEDIUM_WIDTH = 1080;
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Uploader s3Uploader;
+    private final ContentImageRepository contentImageRepository;
+
+    @Async(AsyncConfig.IMAGE_PROCESSING_EXECUTOR)
+    public void createVariants(List<ContentImage> contentImages) {
+        contentImages.forEach(contentImage -> {
+            try {
+                createVariant(contentImage.getId(), contentImage.getImageName());
+            } catch (IOException | RuntimeException e) {
+                log.warn("[이미지 축소본 생성 실패] contentImageId : {}", contentImage.getId(), e);
+            }
+        });
+    }
+
+    private void createVariant(Long contentImageId, String imageName) throws IOException {
+        // 중복 제거로 재사용된 이미지면 이미 만든 축소본 사용
+        Optional<ContentImage> existing = contentImageRepository.findFirstByImageNameAndThumbnailUrlIsNotNull(imageName);
+        if (existing.isPresent()) {
+            contentImageRepository.updateVariantUrls(contentImageId, existing.get().getThumbnailUrl(), existing.get().getMediumUrl());
+            return;
+        }
+
+        BufferedImage original = ImageResizer.read(s3Uploader.download(imageName));
+        if (original == null) {
+            return;   // 지원하지 않는 형식 또는 너무 큰 이미지 - 원본 사용
+        }
+
+        BufferedImage medium = ImageResizer.resize(original, MEDIUM_WIDTH);
+        // 썸네일은 이미 줄인 medium 에서 다시 축소
+        BufferedImage thumbnail = ImageResizer.resize(medium, THUMBNAIL_WIDTH);
+
+        String mediumUrl = upload(ImageStore.mediumFileName(imageName), medium);
+        String thumbnailUrl = upload(ImageStore.thumbnailFileName(imageName), thumbnail);
+        contentImageRepository.updateVariantUrls(contentImageId, thumbnailUrl, mediumUrl);
+    }
+
+    private String upload(String fileName, BufferedImage image) throws IOException {
+        return s3Uploader.upload(fileName, ImageResizer.toJpeg(image, JPEG_QUALITY), JPEG_CONTENT_TYPE).getFileUrl();
+    }
+}
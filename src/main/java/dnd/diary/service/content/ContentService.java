@@ -1,6 +1,7 @@
 package dnd.diary.service.content;
 
 import dnd.diary.config.redis.RedisDao;
+import dnd.diary.domain.GeometryUtil;
 import dnd.diary.domain.content.Content;
 import dnd.diary.domain.content.ContentImage;
 import dnd.diary.domain.content.Emotion;
@@ -8,32 +9,60 @@ import dnd.diary.domain.group.Group;
 import dnd.diary.domain.user.User;
 import dnd.diary.enumeration.Result;
 import dnd.diary.exception.CustomException;
+import dnd.diary.repository.content.BookmarkRepository;
 import dnd.diary.repository.content.ContentImageRepository;
 import dnd.diary.repository.content.ContentRepository;
 import dnd.diary.repository.content.EmotionRepository;
 import dnd.diary.repository.group.GroupRepository;
+import dnd.diary.repository.group.UserJoinGroupRepository;
 import dnd.diary.response.content.ContentResponse;
+import dnd.diary.service.TransactionUtil;
+import dnd.diary.service.map.MapTileCache;
+import dnd.diary.service.map.MapTileInvalidator;
 import dnd.diary.service.redis.RedisService;
 import dnd.diary.service.s3.S3Service;
+import dnd.diary.service.s3.S3Uploader;
 import dnd.diary.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ContentService {
+
+    // SPATIAL INDEX 생성 후 활성화 (src/main/resources/db/mysql/spatial_index.sql)
+    @Value("${map.spatial-search.enabled:false}")
+    private boolean spatialSearchEnabled;
+
+    @Value("${content.search.full-text.enabled:false}")
+    private boolean fullTextSearchEnabled;
+
     private final UserService userService;
     private final RedisService redisService;
     private final RedisDao redisDao;
@@ -42,11 +71,58 @@ public class ContentService {
     private final GroupRepository groupRepository;
     private final ContentImageRepository contentImageRepository;
     private final EmotionRepository emotionRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final UserJoinGroupRepository userJoinGroupRepository;
+    private final MapTileCache mapTileCache;
+    private final MapTileInvalidator mapTileInvalidator;
+    private final TimelineService timelineService;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentImageVariantService contentImageVariantService;
+
+    private static final double MAP_CLUSTER_THRESHOLD_DEGREE = 0.05;   // 약 5km 이하 범위는 개별 게시물로 응답
+    private static final int MAP_CLUSTER_GRID_SIZE = 8;                // 지도 한 변을 나누는 격자 수
+    private static final int FULL_TEXT_MIN_WORD_LENGTH = 2;            // ngram_token_size
+    private static final int FEED_CURSOR_MAX_SIZE = 50;
 
-    @Transactional
     public ContentResponse.Create createContent(
             Long userId, List<MultipartFile> multipartFile, Long groupId,
             String contentNote, Double latitude, Double longitude, String location
+    ) {
+        // 이미지는 트랜잭션 시작 전에 병렬 업로드 - 업로드 동안 DB 커넥션을 점유하지 않도록
+        List<S3Uploader.UploadedFile> uploadedFiles = uploadContentImages(multipartFile);
+        return saveContent(userId, uploadedFiles, groupId, contentNote, latitude, longitude, location);
+    }
+
+    // 클라이언트가 S3 에 직접 업로드한 이미지로 피드 작성
+    public ContentResponse.Create createContentWithUploadedImages(
+            Long userId, List<String> imageFileNames, Long groupId,
+            String contentNote, Double latitude, Double longitude, String location
+    ) {
+        List<S3Uploader.UploadedFile> uploadedFiles = s3Service.confirmUploads(userId, imageFileNames);
+        return saveContent(userId, uploadedFiles, groupId, contentNote, latitude, longitude, location);
+    }
+
+    private ContentResponse.Create saveContent(
+            Long userId, List<S3Uploader.UploadedFile> uploadedFiles, Long groupId,
+            String contentNote, Double latitude, Double longitude, String location
+    ) {
+        return executeWithUploadedFiles(uploadedFiles, () ->
+                insertContent(userId, uploadedFiles, groupId, contentNote, latitude, longitude, location)
+        );
+    }
+
+    // 미션 인증 등 호출한 쪽의 트랜잭션 안에서 업로드가 끝난 이미지로 피드 작성 - 실패 시 업로드한 이미지 정리는 호출한 쪽에서 처리
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ContentResponse.Create createContentWithStoredImages(
+            Long userId, List<S3Uploader.UploadedFile> uploadedFiles, Long groupId,
+            String contentNote, Double latitude, Double longitude, String location
+    ) {
+        return insertContent(userId, uploadedFiles, groupId, contentNote, latitude, longitude, location);
+    }
+
+    private ContentResponse.Create insertContent(
+            Long userId, List<S3Uploader.UploadedFile> uploadedFiles, Long groupId,
+            String contentNote, Double latitude, Double longitude, String location
     ) {
         User user = userService.getUser(userId);
         Group group = getGroup(groupId);
@@ -54,43 +130,53 @@ public class ContentService {
                 contentToEntity(contentNote, latitude, longitude, location, user, group)
         );
 
-        if (multipartFile != null) {
-            List<ContentImage> contentImages = s3Service.uploadFiles(multipartFile, content);
-            content.updateContentImages(contentImages);
+        if (uploadedFiles != null) {
+            content.updateContentImages(saveContentImages(uploadedFiles, content));
         }
 
         group.updateRecentModifiedAt();
         redisService.setValues(content.getId().toString(), "0");
+        mapTileInvalidator.evictContent(groupId, latitude, longitude);
+        timelineService.fanOut(content);
 
         return ContentResponse.Create.response(content);
     }
 
     @Transactional(readOnly = true)
     public ContentResponse.Detail detailContent(Long userId, Long contentId) {
-        Content content = getContent(contentId);
+        Content content = contentRepository.findDetailContent(contentId)
+                .orElseThrow(
+                        () -> new CustomException(Result.NOT_FOUND_CONTENT)
+                );
         User user = userService.getUser(userId);
 
-        int views = redisService.getViewsAndRedisSave(contentId, user.getNickName());
-        boolean isBookmarked = isCheckBookmark(contentId, user);
-        Emotion myEmotionOnContent = isCheckMyEmotionAddContent(content, user);
-
-        Long emotionStatus = (myEmotionOnContent == null) ?
-                -1 : myEmotionOnContent.getEmotionStatus();
+        int views = redisService.getViewsAndRedisSave(contentId, user.getNickName(), content.getViews());
+        ContentResponse.ViewerStatus viewerStatus = contentRepository.findViewerStatus(contentId, userId);
 
         return ContentResponse.Detail.response(
                 content,
                 views,
                 getContentImageResponse(content),
-                isBookmarked,
-                emotionStatus
+                viewerStatus.isBookmarked(),
+                viewerStatus.getEmotionStatusOrDefault()
         );
     }
 
-    @Transactional
     @CacheEvict(value = "Contents", key = "#contentId", cacheManager = "testCacheManager")
     public ContentResponse.Update updateContent(
             Long userId, List<MultipartFile> multipartFile, Long contentId,
             String contentNote, Double latitude, Double longitude, String location
+    ) {
+        List<S3Uploader.UploadedFile> uploadedFiles = uploadContentImages(multipartFile);
+
+        return executeWithUploadedFiles(uploadedFiles, () ->
+                applyContentUpdate(userId, uploadedFiles, contentId, contentNote, latitude, longitude, location)
+        );
+    }
+
+    private ContentResponse.Update applyContentUpdate(
+            Long userId, List<S3Uploader.UploadedFile> uploadedFiles, Long contentId,
+            String contentNote, Double latitude, Double longitude, String location
     ) {
         validateUpdateContent(contentId);
         Content content = existsContentAndUser(contentId, userId);
@@ -100,12 +186,15 @@ public class ContentService {
             throw new CustomException(Result.NOT_FOUND_CONTENT);
         }
 
+        mapTileInvalidator.evictContent(content.getGroup().getId(), content.getLatitude(), content.getLongitude());
+        mapTileInvalidator.evictContent(content.getGroup().getId(), latitude, longitude);
+
         List<String> imageNameList = contentImageRepository.findImageNameList(contentId);
-        List<ContentImage> contentImages = deleteAndSaveContentImage(multipartFile, imageNameList, content);
+        List<ContentImage> contentImages = deleteAndSaveContentImage(uploadedFiles, imageNameList, content);
         content.updateContent(contentNote, latitude, longitude, location, contentImages);
 
         List<ContentResponse.ImageDetail> imageList = getContentImageResponse(content);
-        int views = Integer.parseInt(redisService.getValues(content.getId().toString()));
+        int views = redisService.getViews(content.getId(), content.getViews());
 
         return ContentResponse.Update.response(
                 content,
@@ -120,6 +209,8 @@ public class ContentService {
     ) {
         Content content = existsContentAndUser(contentId, userId);
         content.deleteContent();   // 게시물 삭제 시 상태값만 변경
+        mapTileInvalidator.evictContent(content.getGroup().getId(), content.getLatitude(), content.getLongitude());
+        timelineService.remove(content);
         return true;
     }
 
@@ -149,21 +240,89 @@ public class ContentService {
         return getMyGroupPages(userId, contents);
     }
 
+    // 홈 타임라인 - 가입한 전체 그룹의 피드를 미리 만들어 둔 타임라인에서 조회
+    @Transactional(readOnly = true)
+    public Slice<ContentResponse.GroupPage> timelineContent(Long userId, Integer page) {
+        List<Long> myGroupIds = userJoinGroupRepository.findGroupIdListByUserId(userId);
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.Direction.DESC, "createdAt");
+        if (myGroupIds.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), pageRequest, false);
+        }
+
+        Optional<Slice<Long>> contentIds = timelineService.getContentIds(userId, myGroupIds, pageRequest);
+        // 타임라인 보관 개수를 넘어서는 페이지는 DB 에서 조회
+        if (contentIds.isEmpty()) {
+            Page<Content> contents = contentRepository.findByGroupIdInAndDeletedYn(myGroupIds, false, pageRequest);
+            return new SliceImpl<>(getGroupPageResponses(userId, contents.getContent()), pageRequest, contents.hasNext());
+        }
+
+        // 삭제되었거나 탈퇴한 그룹의 게시물은 제외
+        Map<Long, Content> contentMap = contentRepository.findAllById(contentIds.get().getContent()).stream()
+                .filter(content -> !content.isDeletedYn() && myGroupIds.contains(content.getGroup().getId()))
+                .collect(Collectors.toMap(Content::getId, content -> content));
+        List<Content> contents = contentIds.get().getContent().stream()
+                .filter(contentMap::containsKey)
+                .map(contentMap::get)
+                .toList();
+
+        return new SliceImpl<>(getGroupPageResponses(userId, contents), pageRequest, contentIds.get().hasNext());
+    }
+
+    // 그룹 피드 커서 조회 - 마지막으로 조회한 게시물의 (작성일, ID) 이후부터 조회
+    @Transactional(readOnly = true)
+    public ContentResponse.CursorPage groupCursorListContent(
+            Long userId, List<Long> groupId, LocalDateTime lastCreatedAt, Long lastContentId, Integer size
+    ) {
+        validateGroupAllListContent(groupId);
+
+        int pageSize = Math.max(1, Math.min(size, FEED_CURSOR_MAX_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<Content> contents = contentRepository.findGroupFeedByCursor(groupId, lastCreatedAt, lastContentId, pageSize + 1);
+        boolean hasNext = contents.size() > pageSize;
+        if (hasNext) {
+            contents = contents.subList(0, pageSize);
+        }
+
+        return ContentResponse.CursorPage.response(getGroupPageResponses(userId, contents), hasNext);
+    }
+
     @Transactional(readOnly = true)
     public List<ContentResponse.LocationSearch> listMyMap(
             Long userId, Double startLatitude, Double startLongitude, Double endLatitude, Double endLongitude
     ) {
-        List<Content> contents =
-                contentRepository.mapSearchMyGroupContent(endLatitude, startLatitude, startLongitude, endLongitude, userId);
+        List<Long> myGroupIds = userJoinGroupRepository.findGroupIdListByUserId(userId);
+        return getLocationSearchResponse(
+                myGroupIds,
+                findContentsWithinMap(userId, myGroupIds, startLatitude, startLongitude, endLatitude, endLongitude)
+        );
+    }
 
-        return contents.stream()
-                .filter(content -> !content.isDeletedYn())
-                .map((Content content) -> ContentResponse.LocationSearch.response(
-                                content,
-                                getContentImageResponse(content),
-                                isCountDuplicateLocation(content, userId)
-                        )
-                ).toList();
+    // 지도 범위가 넓으면 격자 단위 묶음으로, 좁으면 개별 게시물로 응답
+    @Transactional(readOnly = true)
+    public ContentResponse.ClusteredMap listMyMapClusters(
+            Long userId, Double startLatitude, Double startLongitude, Double endLatitude, Double endLongitude
+    ) {
+        List<Long> myGroupIds = userJoinGroupRepository.findGroupIdListByUserId(userId);
+        double mapSize = Math.max(Math.abs(endLatitude - startLatitude), Math.abs(endLongitude - startLongitude));
+
+        if (mapSize <= MAP_CLUSTER_THRESHOLD_DEGREE) {
+            return ContentResponse.ClusteredMap.contents(getLocationSearchResponse(
+                    myGroupIds,
+                    findContentsWithinMap(userId, myGroupIds, startLatitude, startLongitude, endLatitude, endLongitude)
+            ));
+        }
+
+        List<ContentResponse.MapCluster> clusters = contentRepository.findMapClusters(
+                myGroupIds,
+                Math.min(startLatitude, endLatitude), Math.max(startLatitude, endLatitude),
+                Math.min(startLongitude, endLongitude), Math.max(startLongitude, endLongitude),
+                mapSize / MAP_CLUSTER_GRID_SIZE
+        );
+        Map<Long, String> thumbnailUrls = contentRepository.findThumbnailUrls(
+                clusters.stream().map(ContentResponse.MapCluster::getContentId).toList()
+        );
+        clusters.forEach(cluster -> cluster.updateContentImageUrl(thumbnailUrls.get(cluster.getContentId())));
+        return ContentResponse.ClusteredMap.clusters(clusters);
     }
 
     @Transactional(readOnly = true)
@@ -187,14 +346,49 @@ public class ContentService {
     @Transactional(readOnly = true)
     public Page<ContentResponse.Create> contentSearch(List<Long> groupId, String word, Integer page) {
         // 삭제 처리되지 않은 게시물만 조회
-        Page<Content> contentPage =
-                contentRepository.searchMyGroupContent(word, groupId, PageRequest.of(page - 1, 10));
+        // ngram 토큰 길이보다 짧은 검색어는 FULLTEXT INDEX 로 검색되지 않으므로 LIKE 검색
+        String keyword = word.trim();
+        Page<Content> contentPage = fullTextSearchEnabled && keyword.length() >= FULL_TEXT_MIN_WORD_LENGTH ?
+                contentRepository.searchFullTextMyGroupContent(toPhraseQuery(keyword), groupId, PageRequest.of(page - 1, 10)) :
+                contentRepository.searchMyGroupContent(keyword, groupId, PageRequest.of(page - 1, 10));
 
         return contentPage.map(ContentResponse.Create::response);
     }
 
 
     // method
+    // boolean mode 연산자(+, -, *, " 등)를 무시하고 검색어 전체를 하나의 구문으로 검색
+    private String toPhraseQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+
+    private List<Content> findContentsWithinMap(
+            Long userId, List<Long> myGroupIds,
+            Double startLatitude, Double startLongitude, Double endLatitude, Double endLongitude
+    ) {
+        double minLatitude = Math.min(startLatitude, endLatitude);
+        double maxLatitude = Math.max(startLatitude, endLatitude);
+        double minLongitude = Math.min(startLongitude, endLongitude);
+        double maxLongitude = Math.max(startLongitude, endLongitude);
+
+        // 지도 이동/확대 시 타일 캐시에서 게시물 ID 를 모은 뒤 한 번에 조회
+        if (mapTileCache.isCacheable(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+            List<Long> contentIds = mapTileCache.findIdsWithin(
+                    MapTileCache.contentScope(myGroupIds), minLatitude, minLongitude, maxLatitude, maxLongitude,
+                    (tileMinLatitude, tileMaxLatitude, tileMinLongitude, tileMaxLongitude) -> contentRepository.findMapPoints(
+                            myGroupIds, tileMinLatitude, tileMaxLatitude, tileMinLongitude, tileMaxLongitude
+                    )
+            );
+            return contentIds.isEmpty() ? new ArrayList<>() : contentRepository.findAllById(contentIds);
+        }
+
+        return spatialSearchEnabled ?
+                contentRepository.findWithinMapByUserId(
+                        userId, GeometryUtil.toPolygonWKT(startLatitude, startLongitude, endLatitude, endLongitude)
+                ) :
+                contentRepository.mapSearchMyGroupContent(endLatitude, startLatitude, startLongitude, endLongitude, userId);
+    }
+
     private List<ContentResponse.ImageDetail> getContentImageResponse(Content content) {
         List<ContentResponse.ImageDetail> imageDetails = new ArrayList<>();
 
@@ -222,34 +416,50 @@ public class ContentService {
                 );
     }
 
-    private Content getContent(Long contentId) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(
-                        () -> new CustomException(Result.NOT_FOUND_CONTENT)
-                );
-        // 이미 삭제된 게시물일 경우
-        if (content.isDeletedYn()) {
-            throw new CustomException(Result.NOT_FOUND_CONTENT);
+    private List<ContentImage> deleteAndSaveContentImage(List<S3Uploader.UploadedFile> uploadedFiles, List<String> deleteContentImageName, Content content) {
+        if (!deleteContentImageName.isEmpty()) {
+            contentImageRepository.deleteByContentIdInBatch(content.getId());
+            // 같은 이미지를 다른 게시물이 사용 중일 수 있으므로 참조만 해제 - 마지막 참조였던 파일은 커밋 후 일괄 삭제
+            s3Service.releaseImageFiles(deleteContentImageName);
+        }
+
+        if (uploadedFiles != null) {
+            return saveContentImages(uploadedFiles, content);
         }
-        return content;
+        return null;
     }
 
-    private List<ContentImage> deleteAndSaveContentImage(List<MultipartFile> multipartFile, List<String> deleteContentImageName, Content content) {
-        if (deleteContentImageName != null) {
-            deleteContentImageName.forEach(s3Service::deleteFile);
-            deleteContentImageName.forEach(imageName ->
-                    contentImageRepository.delete(contentImageRepository.findByImageName(imageName)
-                            .orElseThrow(
-                                    () -> new CustomException(Result.FAIL)
-                            )
-                    )
-            );
+    private List<S3Uploader.UploadedFile> uploadContentImages(List<MultipartFile> multipartFile) {
+        return multipartFile == null ? null : s3Service.uploadFiles(multipartFile);
+    }
+
+    // 업로드가 끝난 이미지 정보를 한 번에 저장 - 커밋 후 축소본 생성
+    private List<ContentImage> saveContentImages(List<S3Uploader.UploadedFile> uploadedFiles, Content content) {
+        List<ContentImage> contentImages = contentImageRepository.saveAll(
+                uploadedFiles.stream()
+                        .map(uploadedFile -> ContentImage.builder()
+                                .content(content)
+                                .imageName(uploadedFile.getFileName())
+                                .imageUrl(uploadedFile.getFileUrl())
+                                .build())
+                        .toList()
+        );
+        if (!contentImages.isEmpty()) {
+            TransactionUtil.afterCommit(() -> contentImageVariantService.createVariants(contentImages));
         }
+        return contentImages;
+    }
 
-        if (multipartFile != null) {
-            return s3Service.uploadFiles(multipartFile, content);
+    // 업로드 후 게시물 저장에 실패하면 업로드한 이미지의 참조 해제 (다른 게시물이 사용하지 않는 이미지는 삭제)
+    private <T> T executeWithUploadedFiles(List<S3Uploader.UploadedFile> uploadedFiles, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (RuntimeException e) {
+            if (uploadedFiles != null) {
+                s3Service.deleteUploadedFiles(uploadedFiles);
+            }
+            throw e;
         }
-        return null;
     }
 
 
@@ -261,11 +471,9 @@ public class ContentService {
     }
 
     private void validateGroupAllListContent(List<Long> groupId) {
-        groupId.forEach(
-                id -> groupRepository.findById(id).orElseThrow(
-                        () -> new CustomException(Result.NOT_FOUND_GROUP)
-                )
-        );
+        if (groupRepository.countByIdIn(groupId) != groupId.stream().distinct().count()) {
+            throw new CustomException(Result.NOT_FOUND_GROUP);
+        }
     }
 
     private void validateGroupListContent(Long groupId) {
@@ -279,6 +487,7 @@ public class ContentService {
                 .content(contentNote)
                 .latitude(latitude)
                 .longitude(longitude)
+                .point(GeometryUtil.createPoint(latitude, longitude))
                 .location(location)
                 .views(0L)
                 .contentLink("test")
@@ -288,49 +497,73 @@ public class ContentService {
                 .build();
     }
 
-    private static Emotion isCheckMyEmotionAddContent(Content content, User user) {
-        return content.getEmotions().stream()
-                .filter(emotion -> emotion.getUser() == user)
-                .filter(Emotion::isEmotionYn)
-                .findFirst()
-                .orElse(null);
+    private Page<ContentResponse.GroupPage> getMyGroupPages(Long userId, Page<Content> contents) {
+        return new PageImpl<>(
+                getGroupPageResponses(userId, contents.getContent()), contents.getPageable(), contents.getTotalElements()
+        );
     }
 
-    private static boolean isCheckBookmark(Long contentId, User user) {
-        return user.getBookmarks()
-                .stream()
-                .map(bookmark -> bookmark.getContent().getId())
-                .anyMatch(x -> x.equals(contentId));
-    }
+    private List<ContentResponse.GroupPage> getGroupPageResponses(Long userId, List<Content> contents) {
+        List<Long> contentIds = contents.stream()
+                .map(Content::getId)
+                .toList();
 
-    private Page<ContentResponse.GroupPage> getMyGroupPages(Long userId, Page<Content> contents) {
-        User user = userService.getUser(userId);
+        // 페이지 크기와 관계없이 조회수(MGET), 공감, 북마크를 각각 한 번에 조회
+        Map<Long, String> viewsMap = getViewsMap(contentIds);
+        Map<Long, Long> emotionStatusMap = emotionRepository.findByContentIdInAndUserIdAndEmotionYn(contentIds, userId, true)
+                .stream()
+                .collect(Collectors.toMap(
+                        emotion -> emotion.getContent().getId(),
+                        Emotion::getEmotionStatus,
+                        (first, second) -> first
+                ));
+        Set<Long> bookmarkedContentIds = contentIds.isEmpty() ?
+                Set.of() : new HashSet<>(bookmarkRepository.findContentIdListByUserIdAndContentIdIn(userId, contentIds));
 
-        return contents.map(
-                (Content content) -> {
-                    Long emotionStatus = isCheckAddEmotionAndGetStatus(user, content);
-                    Boolean myBookmarkStatus = redisService.isCheckAddBookmark(user.getEmail(), content.getId());
-                    String views = redisService.getValues(content.getId().toString());
-
-                    return ContentResponse.GroupPage.response(
-                            content,
-                            emotionStatus,
-                            views,
-                            myBookmarkStatus
-                    );
-                }
-        );
+        return contents.stream()
+                .map((Content content) -> ContentResponse.GroupPage.response(
+                        content,
+                        emotionStatusMap.getOrDefault(content.getId(), -1L),
+                        viewsMap.getOrDefault(content.getId(), String.valueOf(content.getViews())),
+                        bookmarkedContentIds.contains(content.getId())
+                ))
+                .toList();
     }
 
-    private Long isCheckAddEmotionAndGetStatus(User user, Content content) {
-        Optional<Emotion> emotionOptional = emotionRepository.findByContentIdAndUserIdAndEmotionYn(
-                content.getId(), user.getId(), true
+    private Map<Long, String> getViewsMap(List<Long> contentIds) {
+        List<String> views = redisService.getMultiValues(
+                contentIds.stream().map(String::valueOf).toList()
         );
 
-        return (emotionOptional.isEmpty()) ? -1 : emotionOptional.get().getEmotionStatus();
+        Map<Long, String> viewsMap = new HashMap<>();
+        for (int i = 0; i < contentIds.size() && i < views.size(); i++) {
+            if (views.get(i) != null) {
+                viewsMap.put(contentIds.get(i), views.get(i));
+            }
+        }
+        return viewsMap;
     }
 
-    private Long isCountDuplicateLocation(Content content, Long userId) {
-        return contentRepository.countDuplicateLocation(content.getLocation(), userId);
+    // 대표 이미지와 장소별 게시물 수를 게시물 수와 관계없이 각각 한 번에 조회
+    private List<ContentResponse.LocationSearch> getLocationSearchResponse(List<Long> myGroupIds, List<Content> contents) {
+        List<Content> activeContents = contents.stream()
+                .filter(content -> !content.isDeletedYn())
+                .toList();
+
+        Map<Long, String> thumbnailUrls = contentRepository.findThumbnailUrls(
+                activeContents.stream().map(Content::getId).toList()
+        );
+        Map<String, Long> duplicateLocationCounts = contentRepository.countDuplicateLocations(
+                activeContents.stream().map(Content::getLocation).filter(Objects::nonNull).distinct().toList(),
+                myGroupIds
+        );
+
+        return activeContents.stream()
+                .map((Content content) -> ContentResponse.LocationSearch.response(
+                                content,
+                                thumbnailUrls.get(content.getId()),
+                                duplicateLocationCounts.getOrDefault(content.getLocation(), 0L)
+                        )
+                ).toList();
     }
 }
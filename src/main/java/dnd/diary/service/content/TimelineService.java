@@ -0,0 +1,140 @@
+package dnd.diary.service.content;
+
+import dnd.diary.domain.content.Content;
+import dnd.diary.repository.content.ContentRepository;
+import dnd.diary.repository.group.UserJoinGroupRepository;
+import dnd.diary.service.TransactionUtil;
+import dnd.diary.service.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 홈 타임라인 (Redis Sorted Set, score = 게시물 작성 시각)
+ * - 게시물 작성 시 그룹 구성원들의 타임라인에 게시물 ID 추가 (fan-out-on-write)
+ * - 구성원이 많은 그룹은 작성 시 추가하지 않고 조회 시 DB 에서 최신 게시물을 가져와 병합
+ * - 타임라인이 없는 사용자(신규, 만료, 그룹 가입)는 조회 시 DB 에서 다시 생성
+ *   (DB 조회 전에 key 를 먼저 만들어 두고 병합 - 조회 중 작성된 게시물이 누락되지 않도록)
+ * - 타임라인 반영은 게시물 트랜잭션 커밋 후 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    public static final int TIMELINE_MAX_SIZE = 500;
+    private static final long FAN_OUT_MEMBER_LIMIT = 100;
+
+    private final RedisService redisService;
+    private final ContentRepository contentRepository;
+    private final UserJoinGroupRepository userJoinGroupRepository;
+
+    // 게시물 작성 - 구성원은 트랜잭션 안에서 조회하고, 커밋 후 그룹 구성원들의 타임라인에 추가
+    public void fanOut(Content content) {
+        List<Long> memberIds = userJoinGroupRepository.findUserIdListByGroupId(content.getGroup().getId());
+        if (memberIds.size() > FAN_OUT_MEMBER_LIMIT) {
+            return;
+        }
+        Long contentId = content.getId();
+        long score = toScore(content.getCreatedAt());
+        TransactionUtil.afterCommit(() -> {
+            try {
+                redisService.pushTimeline(memberIds, contentId, score, TIMELINE_MAX_SIZE);
+            } catch (Exception e) {
+                // 타임라인 반영 실패가 게시물 작성 실패로 이어지지 않도록 처리 - 타임라인 만료 후 DB 에서 다시 생성됨
+                log.warn("타임라인 반영 실패 contentId : {}", contentId, e);
+            }
+        });
+    }
+
+    // 게시물 삭제 - 커밋 후 그룹 구성원들의 타임라인에서 제거
+    public void remove(Content content) {
+        List<Long> memberIds = userJoinGroupRepository.findUserIdListByGroupId(content.getGroup().getId());
+        Long contentId = content.getId();
+        TransactionUtil.afterCommit(() -> {
+            try {
+                redisService.removeTimeline(memberIds, contentId);
+            } catch (Exception e) {
+                log.warn("타임라인 삭제 실패 contentId : {}", contentId, e);
+            }
+        });
+    }
+
+    // 그룹 가입/삭제로 구독 그룹이 바뀐 경우 다음 조회 시 다시 생성
+    public void evict(List<Long> userIds) {
+        redisService.deleteTimeline(userIds);
+    }
+
+    /**
+     * 타임라인에서 pageable 범위의 게시물 ID 조회
+     * 타임라인 보관 개수를 넘어서는 페이지는 empty 반환 -> DB 조회로 대체
+     */
+    public Optional<Slice<Long>> getContentIds(Long userId, List<Long> myGroupIds, Pageable pageable) {
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        long count = pageable.getOffset() + pageable.getPageSize() + 1;
+        if (count > TIMELINE_MAX_SIZE || myGroupIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Long> largeGroupIds = userJoinGroupRepository.findGroupIdListByMemberCountGreaterThan(
+                myGroupIds, FAN_OUT_MEMBER_LIMIT
+        );
+        Map<Long, Long> timeline = new LinkedHashMap<>(getOrCreateTimeline(userId, myGroupIds, largeGroupIds, count));
+        if (!largeGroupIds.isEmpty()) {
+            timeline.putAll(toTimeline(contentRepository.findGroupFeedByCursor(largeGroupIds, null, null, (int) count)));
+        }
+
+        List<Long> contentIds = timeline.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .toList();
+
+        boolean hasNext = contentIds.size() > pageable.getPageSize();
+        return Optional.of(new SliceImpl<>(
+                hasNext ? new ArrayList<>(contentIds.subList(0, pageable.getPageSize())) : contentIds, pageable, hasNext
+        ));
+    }
+
+    private Map<Long, Long> getOrCreateTimeline(Long userId, List<Long> myGroupIds, List<Long> largeGroupIds, long count) {
+        if (redisService.hasTimeline(userId)) {
+            return redisService.getTimeline(userId, count);
+        }
+
+        // 다른 요청이 생성 중이면 저장하지 않고 DB 조회 결과만 사용
+        boolean rebuilding = redisService.startTimelineRebuild(userId);
+        List<Long> fanOutGroupIds = myGroupIds.stream()
+                .filter(groupId -> !largeGroupIds.contains(groupId))
+                .toList();
+        Map<Long, Long> timeline = toTimeline(contentRepository.findGroupFeedByCursor(fanOutGroupIds, null, null, TIMELINE_MAX_SIZE));
+        if (rebuilding) {
+            redisService.completeTimelineRebuild(userId, timeline, TIMELINE_MAX_SIZE);
+        }
+        return timeline;
+    }
+
+    private Map<Long, Long> toTimeline(List<Content> contents) {
+        Map<Long, Long> timeline = new LinkedHashMap<>();
+        contents.forEach(content -> timeline.put(content.getId(), toScore(content.getCreatedAt())));
+        return timeline;
+    }
+
+    private long toScore(LocalDateTime createdAt) {
+        LocalDateTime dateTime = createdAt == null ? LocalDateTime.now(ZoneId.of("Asia/Seoul")) : createdAt;
+        return dateTime.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,49 @@
+package dnd.diary.service.content;
+
+import dnd.diary.repository.content.ContentJdbcRepository;
+import dnd.diary.service.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountScheduler {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_BATCH_PER_FLUSH = 20;
+
+    private final RedisService redisService;
+    private final ContentJdbcRepository contentJdbcRepository;
+
+    // Redis 에서 증가한 조회수를 주기적으로 content.views 에 반영 (write-behind)
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void flushViews() {
+        int flushedCount = 0;
+
+        for (int batch = 0; batch < MAX_BATCH_PER_FLUSH; batch++) {
+            Map<Long, Long> dirtyViews = redisService.popDirtyViews(FLUSH_BATCH_SIZE);
+            if (dirtyViews.isEmpty()) {
+                break;
+            }
+
+            try {
+                contentJdbcRepository.batchUpdateViews(dirtyViews);
+                flushedCount += dirtyViews.size();
+            } catch (RuntimeException e) {
+                // 반영하지 못한 게시물은 다음 주기에 다시 반영
+                redisService.restoreDirtyViews(dirtyViews.keySet());
+                log.error("[조회수 반영 실패] 게시물 {}건", dirtyViews.size(), e);
+                break;
+            }
+        }
+
+        if (flushedCount > 0) {
+            log.info("[조회수 반영] 게시물 {}건", flushedCount);
+        }
+    }
+}
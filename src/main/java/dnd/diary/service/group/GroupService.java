@@ -21,6 +21,7 @@ import dnd.diary.repository.group.NotificationRepository;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.repository.group.UserJoinGroupRepository;
 import dnd.diary.response.group.*;
+import dnd.diary.service.content.TimelineService;
 import dnd.diary.service.user.UserService;
 import dnd.diary.service.s3.S3Service;
 import lombok.RequiredArgsConstructor;
@@ -50,6 +51,8 @@ public class GroupService {
     private final UserService userService;
     private final S3Service s3Service;
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
+    private final TimelineService timelineService;
 
     private final int MAX_GROUP_MEMBER_COUNT = 50;
 
@@ -144,6 +147,7 @@ public class GroupService {
         // 그룹 내 구성원들의 그룹 탈퇴 처리
         List<UserJoinGroup> userJoinGroupList = group.getUserJoinGroups();
         userJoinGroupRepository.deleteAll(userJoinGroupList);
+        timelineService.evict(userJoinGroupList.stream().map(userJoinGroup -> userJoinGroup.getUser().getId()).toList());
 
         // 그룹 삭제 처리
 //		groupRepository.delete(group);
@@ -370,6 +374,8 @@ public class GroupService {
             inviteRepository.save(invite);
             log.info("초대 ID : {}", invite.getId());
             notificationRepository.save(notification);
+            notificationService.increaseNoReadNotificationCount(List.of(invitedUser.getId()));
+            notificationPushService.publish(List.of(invitedUser.getId()), NotificationType.INVITE);
             log.info("생성된 알림 ID : {} , 알림을 보낸 그룹 ID : {}", notification.getId(), notification.getInvite().getGroup().getId());
 
             invitedUser.updateNewNotification();
@@ -6,16 +6,20 @@ import java.util.List;
 
 import dnd.diary.domain.content.Content;
 import dnd.diary.domain.group.Notification;
+import dnd.diary.domain.group.NotificationOutbox;
 import dnd.diary.domain.group.NotificationType;
 import dnd.diary.domain.mission.Mission;
-import dnd.diary.domain.mission.UserAssignMission;
 import dnd.diary.repository.content.ContentRepository;
 import dnd.diary.repository.group.UserJoinGroupRepository;
-import dnd.diary.repository.mission.UserAssignMissionRepository;
+import dnd.diary.repository.mission.UserAssignMissionJdbcRepository;
 import dnd.diary.response.content.ContentResponse;
 import dnd.diary.response.notification.InviteNotificationResponse;
 import dnd.diary.service.content.ContentService;
+import dnd.diary.service.content.TimelineService;
+import dnd.diary.service.map.MapTileInvalidator;
+import dnd.diary.service.mission.MissionService;
 import org.locationtech.jts.io.ParseException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import dnd.diary.domain.group.Group;
@@ -40,14 +44,18 @@ public class InviteService {
 	private final NotificationRepository notificationRepository;
 	private final UserRepository userRepository;
 	private final UserJoinGroupRepository userJoinGroupRepository;
-	private final UserAssignMissionRepository userAssignMissionRepository;
+	private final UserAssignMissionJdbcRepository userAssignMissionJdbcRepository;
 	private final ContentRepository contentRepository;
 
 	private final UserService userService;
 	private final ContentService contentService;
+	private final MapTileInvalidator mapTileInvalidator;
+	private final TimelineService timelineService;
+	private final NotificationService notificationService;
 
 	// 초대 수락
 	@Transactional
+	@CacheEvict(value = MissionService.GROUP_MISSION_CACHE, key = "#groupId + ':' + #userId", cacheManager = "testCacheManager")
 	public InviteNotificationResponse.InviteNotificationInfo acceptInvite(Long userId, Long groupId, Long notificationId) throws ParseException {
 		User user = userService.getUser(userId);
 		Group invitedGroup = findGroup(groupId);
@@ -58,15 +66,16 @@ public class InviteService {
 		userJoinGroupRepository.save(userJoinGroup);
 
 		// 이미 그룹에 존재하는 미션 할당 처리
-		for (Mission mission : invitedGroup.getMissions()) {
-			UserAssignMission addUserAssignMission = UserAssignMission.toEntity(user, mission);
-			userAssignMissionRepository.save(addUserAssignMission);
-			log.info("그룹 가입 수락으로 추가될 미션 ID : {}", mission.getId());
-			log.info("그룹 가입 수락으로 추가될 할당된 addUserAssignMission ID : {}", addUserAssignMission.getId());
-		}
+		List<Long> missionIds = invitedGroup.getMissions().stream()
+			.map(Mission::getId)
+			.toList();
+		userAssignMissionJdbcRepository.batchInsert(List.of(userId), missionIds);
+		log.info("그룹 가입 수락으로 추가될 미션 ID : {}", missionIds);
+		mapTileInvalidator.evictUserMissions(userId);
+		timelineService.evict(List.of(userId));
 
 		Notification notification = findNotification(notificationId);
-		notification.updateReadNotification();
+		notificationService.readNotification(notification);
 
 		// 1. 초대 수락한 그룹에 새 멤버 환영 게시물 생성
 		ContentResponse.Create content = contentService.createContent(
@@ -78,18 +87,15 @@ public class InviteService {
 				.orElseThrow(() -> new CustomException(NOT_FOUND_CONTENT));
 
 		// 2. 초대 수락한 그룹에 속해 있는 구성원에게 [새 구성원 가입] 알림 발행
-		List<UserJoinGroup> userJoinGroups = invitedGroup.getUserJoinGroups();
-		userJoinGroups.forEach(
-			alreadyUserJoinGroup -> {
-				User alreadyGroupUser = alreadyUserJoinGroup.getUser();
-				if (!user.getId().equals(alreadyGroupUser.getId())) {   // 가입자 제외 새 멤버 알림 전송
-					Notification newGroupMemberNotification = Notification.toNewGroupMemberEntity(invitedGroup, user, alreadyGroupUser, newGroupMemberContent, NotificationType.NEW_GROUP_MEMBER);
-					notificationRepository.save(newGroupMemberNotification);
-
-					alreadyGroupUser.updateNewNotification();
-				}
-			}
-		);
+		//    구성원별 알림은 커밋 후 일괄 저장
+		List<Long> alreadyGroupUserIds = userJoinGroupRepository.findUserIdListByGroupId(groupId).stream()
+			.filter(alreadyGroupUserId -> !user.getId().equals(alreadyGroupUserId))   // 가입자 제외 새 멤버 알림 전송
+			.toList();
+		if (!alreadyGroupUserIds.isEmpty()) {
+			notificationService.publish(NotificationOutbox.toNewGroupMemberEntity(
+				groupId, user.getId(), newGroupMemberContent.getId(), alreadyGroupUserIds
+			));
+		}
 
 		return toNotificationResponse(notification, invitedGroup);
 	}
@@ -103,7 +109,7 @@ public class InviteService {
 		checkAlreadyExist(user, invitedGroup);
 
 		Notification notification = findNotification(notificationId);
-		notification.updateReadNotification();
+		notificationService.readNotification(notification);
 
 		return toNotificationResponse(notification, invitedGroup);
 	}
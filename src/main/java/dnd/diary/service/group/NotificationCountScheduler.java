@@ -0,0 +1,48 @@
+package dnd.diary.service.group;
+
+import dnd.diary.repository.group.NotificationRepository;
+import dnd.diary.service.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCountScheduler {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final int MAX_BATCH_PER_RECONCILE = 20;
+
+    private final RedisService redisService;
+    private final NotificationRepository notificationRepository;
+
+    // Redis 의 읽지 않은 알림 개수를 주기적으로 DB 기준으로 보정
+    // (트랜잭션 롤백, Redis 장애 등으로 증감이 누락된 경우)
+    // 꺼낸 사용자는 다시 목록에 추가하지 않음 - 만료 후 다시 계산될 때 목록에 추가
+    @Scheduled(initialDelay = 600000, fixedDelay = 600000)
+    public void reconcileUnreadCounts() {
+        long reconciledCount = 0;
+
+        for (int batch = 0; batch < MAX_BATCH_PER_RECONCILE; batch++) {
+            Map<Long, Long> cachedCounts = redisService.popUnreadNotificationUsers(RECONCILE_BATCH_SIZE);
+            if (cachedCounts.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> unreadCounts = new HashMap<>();
+            notificationRepository.countUnreadGroupByUserId(List.copyOf(cachedCounts.keySet()))
+                    .forEach(unreadCount -> unreadCounts.put(unreadCount.getUserId(), unreadCount.getUnreadCount()));
+            reconciledCount += redisService.replaceUnreadNotificationCounts(cachedCounts, unreadCounts);
+        }
+
+        if (reconciledCount > 0) {
+            log.info("[읽지 않은 알림 개수 보정] 사용자 {}건", reconciledCount);
+        }
+    }
+}
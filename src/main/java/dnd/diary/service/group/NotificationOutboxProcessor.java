@@ -0,0 +1,91 @@
+package dnd.diary.service.group;
+
+import dnd.diary.domain.group.NotificationOutbox;
+import dnd.diary.repository.group.NotificationJdbcRepository;
+import dnd.diary.repository.group.NotificationOutboxRepository;
+import dnd.diary.service.TransactionUtil;
+import dnd.diary.service.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발행 대기 이벤트를 Notification 으로 변환
+ * - 이벤트 CHUNK_SIZE 건을 한 트랜잭션에서 배치 INSERT 후 삭제
+ * - MAX_ATTEMPT_COUNT 번 실패한 이벤트는 더 이상 발행하지 않고 테이블에 남겨둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxProcessor {
+
+    public static final int CHUNK_SIZE = 100;
+    private static final int MAX_ATTEMPT_COUNT = 5;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final RedisService redisService;
+    private final NotificationPushService notificationPushService;
+
+    // 발행 대기 이벤트를 최대 CHUNK_SIZE 건 발행하고 발행한 건수 반환
+    @Transactional
+    public int processPending() {
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.findPendingForUpdate(
+                MAX_ATTEMPT_COUNT, PageRequest.of(0, CHUNK_SIZE)
+        );
+        process(outboxes);
+        return outboxes.size();
+    }
+
+    // 일괄 발행에 실패한 경우 이벤트 단위로 다시 발행
+    @Transactional
+    public void processOne(Long outboxId) {
+        notificationOutboxRepository.findPendingByIdForUpdate(outboxId, MAX_ATTEMPT_COUNT)
+                .ifPresent(outbox -> process(List.of(outbox)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingIds() {
+        return notificationOutboxRepository.findPendingIdList(MAX_ATTEMPT_COUNT, PageRequest.of(0, CHUNK_SIZE));
+    }
+
+    @Transactional
+    public void increaseAttemptCount(Long outboxId) {
+        notificationOutboxRepository.increaseAttemptCount(outboxId);
+    }
+
+    private void process(List<NotificationOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        Set<Long> recipientIds = new LinkedHashSet<>();
+        outboxes.forEach(outbox -> recipientIds.addAll(outbox.getRecipientIdList()));
+
+        notificationJdbcRepository.batchInsert(outboxes);
+        notificationJdbcRepository.batchUpdateNewNotification(recipientIds);
+        notificationOutboxRepository.deleteRecipientsByIdIn(outboxes.stream().map(NotificationOutbox::getId).toList());
+        notificationOutboxRepository.deleteAllInBatch(outboxes);
+
+        // 사용자별 새 알림 개수가 같은 사용자끼리 묶어 읽지 않은 알림 개수 증가
+        Map<Long, List<Long>> userIdsByCount = outboxes.stream()
+                .flatMap(outbox -> outbox.getRecipientIdList().stream())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        TransactionUtil.afterCommit(() -> userIdsByCount.forEach(
+                (count, userIds) -> redisService.increaseUnreadNotificationCount(userIds, count)
+        ));
+        outboxes.forEach(outbox -> notificationPushService.publish(outbox.getRecipientIdList(), outbox.getNotificationType()));
+        log.info("[알림 발행] 이벤트 {}건, 수신자 {}명", outboxes.size(), recipientIds.size());
+    }
+}
@@ -0,0 +1,64 @@
+package dnd.diary.service.group;
+
+import dnd.diary.service.RelayExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * 알림 발행 대기 이벤트를 별도 스레드에서 발행
+ * - 알림을 발생시킨 트랜잭션 커밋 후 발행 요청 (요청 응답 시간에서 알림 저장 제외)
+ * - 서버 재시작 등으로 남은 이벤트는 주기적으로 다시 발행
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxProcessor notificationOutboxProcessor;
+    private final RelayExecutor executor = new RelayExecutor("notification-outbox-relay", this::relay);
+
+    public NotificationOutboxRelay(NotificationOutboxProcessor notificationOutboxProcessor) {
+        this.notificationOutboxProcessor = notificationOutboxProcessor;
+    }
+
+    public void requestRelay() {
+        executor.request();
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void relayRemaining() {
+        requestRelay();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void relay() {
+        try {
+            while (notificationOutboxProcessor.processPending() == NotificationOutboxProcessor.CHUNK_SIZE) {
+                // 남은 이벤트가 없을 때까지 반복
+            }
+        } catch (RuntimeException e) {
+            log.warn("[알림 발행 실패] 이벤트 단위로 다시 발행", e);
+            relayOneByOne();
+        }
+    }
+
+    // 발행할 수 없는 이벤트가 나머지 이벤트 발행을 막지 않도록 이벤트 단위로 발행
+    private void relayOneByOne() {
+        List<Long> outboxIds = notificationOutboxProcessor.findPendingIds();
+        for (Long outboxId : outboxIds) {
+            try {
+                notificationOutboxProcessor.processOne(outboxId);
+            } catch (RuntimeException e) {
+                log.error("[알림 발행 실패] outboxId : {}", outboxId, e);
+                notificationOutboxProcessor.increaseAttemptCount(outboxId);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package dnd.diary.service.group;
+
+import dnd.diary.domain.group.NotificationType;
+import dnd.diary.service.TransactionUtil;
+import dnd.diary.service.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 새 알림 SSE 전송
+ * - 알림 발생 시 Redis pub/sub 으로 모든 서버에 전달하고, 사용자가 연결된 서버에서만 전송
+ * - 사용자별로 전송 대기 중인 이벤트는 하나만 유지 (느린 연결에 이벤트가 쌓이지 않도록 최신 알림 종류로 덮어씀)
+ * - 연결 유지를 위해 주기적으로 heartbeat 전송 (사용자 HEARTBEAT_BATCH_SIZE 명씩 한 작업으로), 전송 실패한 연결은 제거
+ */
+@Slf4j
+@Service
+public class NotificationPushService implements MessageListener {
+
+	private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+	private static final String NOTIFICATION_EVENT_NAME = "notification";
+	private static final String HEARTBEAT = "heartbeat";
+	private static final int SENDER_THREAD_COUNT = 4;
+	private static final int SENDER_QUEUE_CAPACITY = 10000;
+	private static final int HEARTBEAT_BATCH_SIZE = 500;
+
+	private final RedisService redisService;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	// 사용자 ID -> 연결 목록 (여러 기기/탭)
+	private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+	// 사용자 ID -> 전송 대기 중인 알림 종류
+	private final Map<Long, String> pendingEvents = new ConcurrentHashMap<>();
+	private final Supplier<SseEmitter> emitterFactory;
+	private final ThreadPoolExecutor sender;
+
+	@Autowired
+	public NotificationPushService(RedisService redisService, RedisMessageListenerContainer redisMessageListenerContainer) {
+		this(redisService, redisMessageListenerContainer, () -> new SseEmitter(EMITTER_TIMEOUT), new ThreadPoolExecutor(
+				SENDER_THREAD_COUNT, SENDER_THREAD_COUNT, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(SENDER_QUEUE_CAPACITY),
+				runnable -> {
+					Thread thread = new Thread(runnable, "notification-push-sender");
+					thread.setDaemon(true);
+					return thread;
+				}
+		));
+	}
+
+	NotificationPushService(RedisService redisService, RedisMessageListenerContainer redisMessageListenerContainer,
+							Supplier<SseEmitter> emitterFactory, ThreadPoolExecutor sender) {
+		this.redisService = redisService;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.emitterFactory = emitterFactory;
+		this.sender = sender;
+	}
+
+	@PostConstruct
+	public void subscribeChannel() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisService.NOTIFICATION_PUSH_CHANNEL));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sender.shutdown();
+		emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+	}
+
+	// SSE 연결
+	public SseEmitter subscribe(Long userId) {
+		SseEmitter emitter = emitterFactory.get();
+		emitters.compute(userId, (key, userEmitters) -> {
+			Set<SseEmitter> addedEmitters = userEmitters == null ? ConcurrentHashMap.newKeySet() : userEmitters;
+			addedEmitters.add(emitter);
+			return addedEmitters;
+		});
+
+		emitter.onCompletion(() -> removeEmitter(userId, emitter));
+		emitter.onTimeout(() -> removeEmitter(userId, emitter));
+		emitter.onError(e -> removeEmitter(userId, emitter));
+
+		// 연결 직후 이벤트를 보내지 않으면 일부 프록시에서 응답을 보내지 않고 대기
+		send(userId, emitter, SseEmitter.event().comment("connected"));
+		return emitter;
+	}
+
+	// 새 알림 발생 - 현재 트랜잭션이 있으면 커밋 후 전달
+	public void publish(Collection<Long> userIds, NotificationType notificationType) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		List<Long> recipientIds = List.copyOf(userIds);
+		Runnable publish = () -> {
+			try {
+				redisService.publishNotification(recipientIds, notificationType.name());
+			} catch (RuntimeException e) {
+				// 실시간 알림 전송 실패가 알림 저장 실패로 이어지지 않도록 처리 - 알림 목록 조회로 확인 가능
+				log.warn("[실시간 알림 발행 실패] 사용자 {}명", recipientIds.size(), e);
+			}
+		};
+
+		TransactionUtil.afterCommit(publish);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(RedisService.NOTIFICATION_PUSH_DELIMITER);
+		Long userId = Long.valueOf(body[0]);
+		if (!emitters.containsKey(userId)) {
+			return;   // 다른 서버에 연결된 사용자
+		}
+
+		if (pendingEvents.put(userId, body[1]) == null) {
+			requestSend(userId);
+		}
+	}
+
+	// 연결된 사용자를 HEARTBEAT_BATCH_SIZE 명씩 나눠 한 작업에서 전송 - 대기열이 가득 차면 이번 heartbeat 는 건너뜀
+	@Scheduled(initialDelay = 30000, fixedDelay = 30000)
+	public void sendHeartbeat() {
+		List<Long> userIds = List.copyOf(emitters.keySet());
+		int skippedCount = 0;
+		for (int from = 0; from < userIds.size(); from += HEARTBEAT_BATCH_SIZE) {
+			List<Long> batch = userIds.subList(from, Math.min(from + HEARTBEAT_BATCH_SIZE, userIds.size()));
+			try {
+				sender.execute(() -> sendHeartbeat(batch));
+			} catch (RejectedExecutionException e) {
+				skippedCount += batch.size();
+			}
+		}
+		if (skippedCount > 0) {
+			log.warn("[heartbeat 전송 대기열 초과] 사용자 {}명 건너뜀", skippedCount);
+		}
+	}
+
+	private void requestSend(Long userId) {
+		try {
+			sender.execute(() -> sendPendingEvent(userId));
+		} catch (RejectedExecutionException e) {
+			// 전송 대기열이 가득 찬 경우 이번 이벤트는 버리고 다음 이벤트에서 전송
+			pendingEvents.remove(userId);
+			log.warn("[실시간 알림 전송 대기열 초과] userId : {}", userId);
+		}
+	}
+
+	private void sendPendingEvent(Long userId) {
+		String event = pendingEvents.remove(userId);
+		Set<SseEmitter> userEmitters = emitters.get(userId);
+		if (event == null || userEmitters == null) {
+			return;
+		}
+
+		for (SseEmitter emitter : userEmitters) {
+			send(userId, emitter, SseEmitter.event().name(NOTIFICATION_EVENT_NAME).data(event));
+		}
+	}
+
+	private void sendHeartbeat(List<Long> userIds) {
+		for (Long userId : userIds) {
+			Set<SseEmitter> userEmitters = emitters.get(userId);
+			// 전송 대기 중인 알림이 있으면 알림 전송으로 연결 유지
+			if (userEmitters == null || pendingEvents.containsKey(userId)) {
+				continue;
+			}
+			for (SseEmitter emitter : userEmitters) {
+				send(userId, emitter, SseEmitter.event().comment(HEARTBEAT));
+			}
+		}
+	}
+
+	private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			// 연결이 끊긴 경우
+			removeEmitter(userId, emitter);
+		}
+	}
+
+	private void removeEmitter(Long userId, SseEmitter emitter) {
+		emitters.computeIfPresent(userId, (key, userEmitters) -> {
+			userEmitters.remove(emitter);
+			return userEmitters.isEmpty() ? null : userEmitters;
+		});
+	}
+}
@@ -8,22 +8,27 @@ import dnd.diary.domain.content.Content;
 import dnd.diary.domain.content.Emotion;
 import dnd.diary.domain.group.Group;
 import dnd.diary.domain.group.Notification;
+import dnd.diary.domain.group.NotificationOutbox;
 import dnd.diary.domain.group.NotificationType;
 import dnd.diary.domain.user.User;
 import dnd.diary.enumeration.Result;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.content.ContentRepository;
+import dnd.diary.repository.group.NotificationOutboxRepository;
 import dnd.diary.repository.group.NotificationRepository;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.response.notification.*;
+import dnd.diary.service.TransactionUtil;
+import dnd.diary.service.redis.RedisService;
 import dnd.diary.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -32,193 +37,81 @@ import java.util.List;
 public class NotificationService {
 
 	private final NotificationRepository notificationRepository;
+	private final NotificationOutboxRepository notificationOutboxRepository;
 	private final ContentRepository contentRepository;
 
 	private final UserService userService;
+	private final RedisService redisService;
+	private final NotificationOutboxRelay notificationOutboxRelay;
+
+	private static final int NOTIFICATION_PAGE_SIZE = 30;
+	private static final List<NotificationType> DEFAULT_NOTIFICATION_TYPES = List.of(
+			NotificationType.CONTENT_COMMENT, NotificationType.CONTENT_EMOTION,
+			NotificationType.NEW_GROUP_MEMBER, NotificationType.COMMENT_LIKE
+	);
 
 	public InviteNotificationResponse getInviteNotification(Long userId) {
-		User user = userService.getUser(userId);
-		List<Notification> notificationList = user.getNotifications();
-		
-		long notificationCount = 0;
+		List<Notification> notificationList = notificationRepository.findInviteNotificationList(userId);
+
 		List<InviteNotificationResponse.InviteNotificationInfo> notificationInfoList = new ArrayList<>();
 		for (Notification notification : notificationList) {
-			if (notification.getInvite() == null) {
-				continue;
-			}
-			if (notification.getNotificationType() == NotificationType.INVITE) {
-				Group invitedGroup = notification.getInvite().getGroup();   // 이미 삭제된 그룹 알림도 포함
-				InviteNotificationResponse.InviteNotificationInfo notificationInfo = InviteNotificationResponse.InviteNotificationInfo
-						.builder()
-						.notificationType(NotificationType.INVITE)
-						.notificationId(notification.getId())
-						.groupId(invitedGroup.getId())
-						.groupName(invitedGroup.getGroupName())
-						.groupNote(invitedGroup.getGroupNote())
-						.groupImageUrl(invitedGroup.getGroupImageUrl())
-						.groupInvitedAt(notification.getCreatedAt())   // 초대된 날짜
-						.readYn(notification.isReadYn())
-						.build();
-				notificationInfoList.add(notificationInfo);
-				notificationCount += 1;
-			}
+			Group invitedGroup = notification.getInvite().getGroup();   // 이미 삭제된 그룹 알림도 포함
+			InviteNotificationResponse.InviteNotificationInfo notificationInfo = InviteNotificationResponse.InviteNotificationInfo
+					.builder()
+					.notificationType(NotificationType.INVITE)
+					.notificationId(notification.getId())
+					.groupId(invitedGroup.getId())
+					.groupName(invitedGroup.getGroupName())
+					.groupNote(invitedGroup.getGroupNote())
+					.groupImageUrl(invitedGroup.getGroupImageUrl())
+					.groupInvitedAt(notification.getCreatedAt())   // 초대된 날짜
+					.readYn(notification.isReadYn())
+					.build();
+			notificationInfoList.add(notificationInfo);
 		}
 
 		return InviteNotificationResponse.builder()
 			.notificationInfoList(notificationInfoList)
-			.totalCount(notificationCount)
+			.totalCount(notificationInfoList.size())
 			.build();
 	}
 
-	// 전체 알림 목록 조회
-	public AllNotificationListResponse getAllNotificationList(Long userId) {
-		User user = userService.getUser(userId);
+	// 전체 알림 목록 조회 - 최신순, 알림 종류 지정이 없으면 초대 알림을 제외한 전체
+	public AllNotificationListResponse getAllNotificationList(Long userId, List<NotificationType> notificationTypes, Integer page) {
+		List<NotificationType> targetTypes = notificationTypes == null || notificationTypes.isEmpty() ?
+				DEFAULT_NOTIFICATION_TYPES : notificationTypes;
 
-		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = getContentCommentNotificationList(user);
-		notificationInfoList.addAll(getContentEmotionNotificationList(user));
-		notificationInfoList.addAll(getNewGroupMemberNotificationList(user));
-		notificationInfoList.addAll(getCommentLikeNotificationList(user));
+		Page<Notification> notificationPage = notificationRepository.findNotificationPage(
+				userId, targetTypes, PageRequest.of(page - 1, NOTIFICATION_PAGE_SIZE)
+		);
 
-		// 알림 최신순 정렬
-		notificationInfoList.sort(Comparator.comparing(AllNotificationListResponse.NotificationInfo::getCreatedAt, Comparator.reverseOrder()));
+		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = notificationPage.getContent().stream()
+				.map(this::toNotificationInfo)
+				.toList();
 
-		long notificationCount = notificationInfoList.size();
-		AllNotificationListResponse allNotificationListResponse = AllNotificationListResponse.builder()
+		return AllNotificationListResponse.builder()
 				.notificationInfoList(notificationInfoList)
-				.totalCount(notificationCount)
+				.totalCount(notificationPage.getTotalElements())
+				.hasNext(notificationPage.hasNext())
 				.build();
-
-		return allNotificationListResponse;
-	}
-
-	// 초대 알림 목록
-	private List<AllNotificationListResponse.NotificationInfo> getInviteNotificationList(User user) {
-		List<Notification> notificationList = user.getNotifications();
-		log.info("유저 전체 알림 개수 : {}", notificationList.size());
-
-		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = new ArrayList<>();
-		for (Notification notification : notificationList) {
-			if (notification.getNotificationType() == NotificationType.INVITE) {
-				if (notification.getInvite() == null) {   // 초대 정보가 없는 알림인 경우
-					continue;
-				}
-				AllNotificationListResponse.NotificationInfo notificationInfo = new AllNotificationListResponse.NotificationInfo(notification);
-				notificationInfoList.add(notificationInfo);
-			}
-		}
-		log.info("그룹 초대 알림 개수 : {}", notificationInfoList.size());
-
-		return notificationInfoList;
-	}
-
-	// 게시물 댓글 알림 목록
-	// 이미 삭제된 게시물일 경우에도 포함
-	private List<AllNotificationListResponse.NotificationInfo> getContentCommentNotificationList(User user) {
-
-		List<Notification> notificationList = user.getNotifications();
-		log.info("유저 전체 알림 개수 : {}", notificationList.size());
-
-		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = new ArrayList<>();
-		for (Notification notification : notificationList) {
-			if (notification.getNotificationType() == NotificationType.CONTENT_COMMENT) {
-			    // 알림의 게시물/댓글 정보가 없는 경우 제외
-				if (notification.getContent() == null || notification.getComment() == null) {
-					continue;
-				}
-				Content content = notification.getContent();
-				Comment comment = notification.getComment();
-				AllNotificationListResponse.NotificationInfo notificationInfo = new AllNotificationListResponse.NotificationInfo(notification, content, comment);
-				notificationInfoList.add(notificationInfo);
-			}
-		}
-		log.info("게시물 댓글 알림 개수 : {}", notificationInfoList.size());
-
-		return notificationInfoList;
-	}
-
-	// 게시물 공감 알림 목록
-	// 이미 삭제된 게시물일 경우에도 포함
-	private List<AllNotificationListResponse.NotificationInfo> getContentEmotionNotificationList(User user) {
-
-		List<Notification> notificationList = user.getNotifications();
-		log.info("유저 전체 알림 개수 : {}", notificationList.size());
-
-		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = new ArrayList<>();
-		for (Notification notification : notificationList) {
-			if (notification.getNotificationType() == NotificationType.CONTENT_EMOTION) {
-                // 알림의 게시물/공감 정보가 없는 경우 제외
-				if (notification.getContent() == null || notification.getEmotion() == null) {
-					continue;
-				}
-				Content content = notification.getContent();
-				Emotion emotion = notification.getEmotion();
-				AllNotificationListResponse.NotificationInfo notificationInfo = new AllNotificationListResponse.NotificationInfo(notification, content, emotion);
-				notificationInfoList.add(notificationInfo);
-			}
-		}
-		log.info("게시물 공감 알림 개수 : {}", notificationInfoList.size());
-
-		return notificationInfoList;
-	}
-
-	// 댓글 좋아요 알림 목록
-	// 이미 삭제된 댓글일 경우에도 포함
-	private List<AllNotificationListResponse.NotificationInfo> getCommentLikeNotificationList(User user) {
-
-		List<Notification> notificationList = user.getNotifications();
-		log.info("유저 전체 알림 개수 : {}", notificationList.size());
-
-		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = new ArrayList<>();
-		for (Notification notification : notificationList) {
-			if (notification.getNotificationType() == NotificationType.COMMENT_LIKE) {
-				// 알림의 댓글/좋아요 정보가 없는 경우 제외
-				if (notification.getComment() == null || notification.getCommentLike() == null) {
-					continue;
-				}
-				Comment comment = notification.getComment();
-				CommentLike commentLike = notification.getCommentLike();
-				AllNotificationListResponse.NotificationInfo notificationInfo = new AllNotificationListResponse.NotificationInfo(notification, comment, commentLike);
-				notificationInfoList.add(notificationInfo);
-			}
-		}
-		log.info("댓글 좋아요 알림 개수 : {}", notificationInfoList.size());
-
-		return notificationInfoList;
 	}
 
-	// 그룹 새 멤버 알림 목록
-	private List<AllNotificationListResponse.NotificationInfo> getNewGroupMemberNotificationList(User user) {
-
-		List<Notification> notificationList = user.getNotifications();
-		log.info("유저 전체 알림 개수 : {} : ", notificationList.size());
-
-		List<AllNotificationListResponse.NotificationInfo> notificationInfoList = new ArrayList<>();
-		for (Notification notification : notificationList) {
-			if (notification.getNotificationType() == NotificationType.NEW_GROUP_MEMBER) {
-				if (notification.getGroup() == null || notification.getNewGroupUser() == null || notification.getContent() == null) {
-					continue;
-				}
-				// 이미 삭제된 그룹인 경우에도 포함
-				Group group = notification.getGroup();
-				User newGroupUser = notification.getNewGroupUser();
-				Content newGroupMemberContent = notification.getContent();
-				AllNotificationListResponse.NotificationInfo notificationInfo = new AllNotificationListResponse.NotificationInfo(group, newGroupUser, newGroupMemberContent, notification);
-				notificationInfoList.add(notificationInfo);
-			}
-		}
-
-		log.info("그룹 새 멤버 알림 개수 : {}", notificationInfoList.size());
-
-		return notificationInfoList;
+	private AllNotificationListResponse.NotificationInfo toNotificationInfo(Notification notification) {
+		return switch (notification.getNotificationType()) {
+			case INVITE -> new AllNotificationListResponse.NotificationInfo(notification);
+			case CONTENT_COMMENT -> new AllNotificationListResponse.NotificationInfo(notification, notification.getContent(), notification.getComment());
+			case CONTENT_EMOTION -> new AllNotificationListResponse.NotificationInfo(notification, notification.getContent(), notification.getEmotion());
+			case COMMENT_LIKE -> new AllNotificationListResponse.NotificationInfo(notification, notification.getComment(), notification.getCommentLike());
+			case NEW_GROUP_MEMBER -> new AllNotificationListResponse.NotificationInfo(
+					notification.getGroup(), notification.getNewGroupUser(), notification.getContent(), notification);
+		};
 	}
 
 	// 알림 단일 클릭(읽기)
 	@Transactional
 	public NotificationReadResponse readNotification(Long notificationId) {
 		Notification notification = notificationRepository.findById(notificationId).orElseThrow(() -> new CustomException(NOT_FOUND_NOTIFICATION));
-		if (!notification.isReadYn()) {
-			notification.updateReadNotification();
-		}
+		readNotification(notification);
 
 		return NotificationReadResponse.builder()
 			.notificationId(notification.getId())
@@ -236,15 +129,8 @@ public class NotificationService {
 
 		boolean checkNewNotification = user.isNewNotification();
 
-		List<Notification> notificationList = user.getNotifications();
-		long readCount = 0;
-		for (Notification notification : notificationList) {
-			if (notification.isReadYn()) {
-				readCount += 1;
-			}
-		}
-
-		long noReadCount = notificationList.size() - readCount;
+		long totalCount = notificationRepository.countByUserId(userId);
+		long noReadCount = checkNoReadNotificationCount(user);
 		if (noReadCount == 0) {
 			checkNewNotification = false;
 		}
@@ -252,32 +138,42 @@ public class NotificationService {
 		return UserNotificationInfoResponse.builder()
 			.isNewNotification(checkNewNotification)
 			.noReadCount(noReadCount)
-			.readCount(readCount)
-			.totalCount(notificationList.size())
+			.readCount(totalCount - noReadCount)
+			.totalCount(totalCount)
 			.build();
 	}
 
-	// 읽지 않은 알림 개수 체크
+	// 읽지 않은 알림 개수 체크 - Redis 에 없는 경우에만 DB 에서 계산
 	public long checkNoReadNotificationCount(User user) {
-		List<Notification> notificationList = user.getNotifications();
-		long readCount = 0;
-		for (Notification notification : notificationList) {
-			if (notification.isReadYn()) {
-				readCount += 1;
-			}
+		Long noReadCount = redisService.getUnreadNotificationCount(user.getId());
+		if (noReadCount != null) {
+			return noReadCount;
+		}
+
+		long countFromDb = notificationRepository.countByUserIdAndReadYn(user.getId(), false);
+		redisService.setUnreadNotificationCount(user.getId(), countFromDb);
+		return countFromDb;
+	}
+
+	// 읽지 않은 알림 개수 증가 - 알림 생성 시, 커밋 후 반영 (롤백된 알림이 개수에 남지 않도록)
+	public void increaseNoReadNotificationCount(List<Long> userIds) {
+		TransactionUtil.afterCommit(() -> redisService.increaseUnreadNotificationCount(userIds));
+	}
+
+	// 알림 읽음 처리 - 읽지 않은 알림인 경우에만 커밋 후 개수 감소
+	public void readNotification(Notification notification) {
+		if (!notification.isReadYn()) {
+			notification.updateReadNotification();
+			Long userId = notification.getUser().getId();
+			TransactionUtil.afterCommit(() -> redisService.decreaseUnreadNotificationCount(userId));
 		}
-		return notificationList.size() - readCount;
 	}
 
 	// 댓글 작성 시 알림 생성
 	public void sendToNotification(Long contentId, Comment comment) {
 		Content content = getContent(contentId);
 		if (!comment.getUser().getId().equals(content.getUser().getId())) {
-			Notification notification = Notification.toContentCommentEntity(
-					content, comment, content.getUser(), NotificationType.CONTENT_COMMENT);
-			notificationRepository.save(notification);
-
-			content.getUser().updateNewNotification();
+			publish(NotificationOutbox.toContentCommentEntity(content.getId(), comment.getId(), content.getUser().getId()));
 		}
 	}
 
@@ -285,24 +181,26 @@ public class NotificationService {
 	public void sendToNotification(Long contentId, User user, Emotion emotion) {
 		Content content = getContent(contentId);
 		if (!user.getId().equals(content.getUser().getId())) {
-			Notification notification = Notification.toContentEmotionEntity(
-					content, emotion, content.getUser(), NotificationType.CONTENT_EMOTION);
-			notificationRepository.save(notification);
-
-			content.getUser().updateNewNotification();
+			publish(NotificationOutbox.toContentEmotionEntity(content.getId(), emotion.getId(), content.getUser().getId()));
 		}
 	}
 
 	// 자신의 댓글이 아닌 경우에 댓글 좋아요 알림 생성
 	public void sendToNotification(User user, Comment targetComment, CommentLike commentLike) {
 		if (!user.getId().equals(targetComment.getUser().getId())) {
-			Notification notification = Notification.toCommentLikeEntity(targetComment, commentLike, targetComment.getUser(), NotificationType.COMMENT_LIKE);
-			notificationRepository.save(notification);
-
-			targetComment.getUser().updateNewNotification();
+			publish(NotificationOutbox.toCommentLikeEntity(targetComment.getId(), commentLike.getId(), targetComment.getUser().getId()));
 		}
 	}
 
+	/**
+	 * 알림 발행 대기 이벤트 저장 - 현재 트랜잭션과 함께 커밋
+	 * 커밋 후 별도 스레드에서 수신자별 알림으로 일괄 저장 (NotificationOutboxRelay)
+	 */
+	public void publish(NotificationOutbox notificationOutbox) {
+		notificationOutboxRepository.save(notificationOutbox);
+		TransactionUtil.afterCommit(notificationOutboxRelay::requestRelay);
+	}
+
 	private Content getContent(Long contentId) {
 		Content content = contentRepository.findById(contentId)
 				.orElseThrow(
@@ -0,0 +1,217 @@
+package dnd.diary.service.map;
+
+import dnd.diary.domain.GeoHashUtil;
+import dnd.diary.domain.GeoPoint;
+import dnd.diary.response.common.CacheStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 화면(게시물/미션) 조회용 geohash 타일 캐시
+ * - key : 조회 범위(scope, 예: 가입한 그룹 ID 목록) + geohash 타일
+ * - value : 타일 내 ID/좌표 배열
+ * 지도 이동/확대 시 대부분의 타일이 메모리에서 조회되고, 게시물/미션 변경 시 해당 타일만 무효화
+ * - 서버마다 따로 보관하므로 무효화는 MapTileInvalidator 가 커밋 후 모든 서버에 전달
+ * - 무효화 메시지를 받지 못한 경우에도 TILE_TTL 이 지나면 다시 조회
+ */
+@Slf4j
+@Component
+public class MapTileCache {
+
+	public static final int TILE_PRECISION = 5;   // 약 4.9km x 4.9km
+	public static final int MAX_TILES_PER_VIEWPORT = 64;
+	private static final int MAX_CACHED_TILES = 20_000;
+	private static final Duration TILE_TTL = Duration.ofMinutes(10);
+	private static final String KEY_DELIMITER = "|";
+	private static final String CONTENT_SCOPE_PREFIX = "content:";
+	private static final String MISSION_SCOPE_PREFIX = "mission:";
+
+	private final Map<String, Tile> tiles = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Tile> eldest) {
+			return size() > MAX_CACHED_TILES;
+		}
+	};
+
+	private final long tileTtlMillis;
+	private final LongSupplier clock;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong invalidationVersion = new AtomicLong();
+
+	public MapTileCache() {
+		this(TILE_TTL, System::currentTimeMillis);
+	}
+
+	MapTileCache(Duration tileTtl, LongSupplier clock) {
+		this.tileTtlMillis = tileTtl.toMillis();
+		this.clock = clock;
+	}
+
+	@FunctionalInterface
+	public interface TileLoader {
+		List<GeoPoint> load(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude);
+	}
+
+	// 타일이 너무 많은 (축소된) 지도는 캐시를 사용하지 않음
+	public boolean isCacheable(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+		return GeoHashUtil.countCoveringTiles(minLatitude, minLongitude, maxLatitude, maxLongitude, TILE_PRECISION)
+				<= MAX_TILES_PER_VIEWPORT;
+	}
+
+	public List<Long> findIdsWithin(
+			String scope, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, TileLoader loader
+	) {
+		// 타일 경계에 걸친 위치는 양쪽 타일에 모두 포함될 수 있으므로 중복 제거
+		Set<Long> ids = new LinkedHashSet<>();
+		for (String geoHash : GeoHashUtil.coveringTiles(minLatitude, minLongitude, maxLatitude, maxLongitude, TILE_PRECISION)) {
+			getOrLoad(scope, geoHash, loader).collectWithin(minLatitude, minLongitude, maxLatitude, maxLongitude, ids);
+		}
+		return new ArrayList<>(ids);
+	}
+
+	// 게시물 : 사용자가 가입한 그룹 목록 단위로 캐시
+	public static String contentScope(List<Long> groupIds) {
+		return CONTENT_SCOPE_PREFIX + groupIds.stream()
+				.sorted()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+	}
+
+	// 미션 : 미션이 할당된 사용자 단위로 캐시
+	public static String missionScope(Long userId) {
+		return MISSION_SCOPE_PREFIX + userId;
+	}
+
+	// 게시물이 작성된 그룹을 포함하는 모든 scope 의 타일 무효화
+	public void evictContent(Long groupId, Double latitude, Double longitude) {
+		String targetGroupId = String.valueOf(groupId);
+		evict(scope -> scope.startsWith(CONTENT_SCOPE_PREFIX)
+						&& Arrays.asList(scope.substring(CONTENT_SCOPE_PREFIX.length()).split(",")).contains(targetGroupId),
+				latitude, longitude);
+	}
+
+	public void evictMission(Double latitude, Double longitude) {
+		evict(scope -> scope.startsWith(MISSION_SCOPE_PREFIX), latitude, longitude);
+	}
+
+	public void evictUserMissions(Long userId) {
+		evictScope(missionScope(userId));
+	}
+
+	// 좌표가 속한 타일 중 scope 조건에 맞는 타일 무효화
+	public void evict(Predicate<String> scopeMatcher, Double latitude, Double longitude) {
+		if (latitude == null || longitude == null) {
+			return;
+		}
+		String geoHash = GeoHashUtil.encode(latitude, longitude, TILE_PRECISION);
+		invalidationVersion.incrementAndGet();
+		synchronized (tiles) {
+			tiles.keySet().removeIf(key -> {
+				int delimiterIndex = key.lastIndexOf(KEY_DELIMITER);
+				return key.substring(delimiterIndex + 1).equals(geoHash)
+						&& scopeMatcher.test(key.substring(0, delimiterIndex));
+			});
+		}
+	}
+
+	public void evictScope(String scope) {
+		invalidationVersion.incrementAndGet();
+		synchronized (tiles) {
+			tiles.keySet().removeIf(key -> key.startsWith(scope + KEY_DELIMITER));
+		}
+	}
+
+	public CacheStatsResponse getStats() {
+		long hits = hitCount.get();
+		long misses = missCount.get();
+		int size;
+		synchronized (tiles) {
+			size = tiles.size();
+		}
+		return CacheStatsResponse.builder()
+				.hitCount(hits)
+				.missCount(misses)
+				.hitRatio(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+				.size(size)
+				.build();
+	}
+
+	private Tile getOrLoad(String scope, String geoHash, TileLoader loader) {
+		String key = scope + KEY_DELIMITER + geoHash;
+		long now = clock.getAsLong();
+		synchronized (tiles) {
+			Tile tile = tiles.get(key);
+			if (tile != null && now - tile.loadedAt < tileTtlMillis) {
+				hitCount.incrementAndGet();
+				return tile;
+			}
+		}
+		missCount.incrementAndGet();
+
+		// 조회 중 무효화가 발생했다면 이전 데이터일 수 있으므로 캐시하지 않음
+		long version = invalidationVersion.get();
+		Tile tile = Tile.of(loadTile(geoHash, loader), now);
+		synchronized (tiles) {
+			if (version == invalidationVersion.get()) {
+				tiles.put(key, tile);
+			}
+		}
+		return tile;
+	}
+
+	private List<GeoPoint> loadTile(String geoHash, TileLoader loader) {
+		double[] bounds = GeoHashUtil.bounds(geoHash);
+		return loader.load(bounds[0], bounds[1], bounds[2], bounds[3]);
+	}
+
+	// 타일 내 위치 정보를 객체 대신 원시 타입 배열로 보관
+	private static class Tile {
+		private final long[] ids;
+		private final double[] latitudes;
+		private final double[] longitudes;
+		private final long loadedAt;
+
+		private Tile(long[] ids, double[] latitudes, double[] longitudes, long loadedAt) {
+			this.ids = ids;
+			this.latitudes = latitudes;
+			this.longitudes = longitudes;
+			this.loadedAt = loadedAt;
+		}
+
+		private static Tile of(List<GeoPoint> points, long loadedAt) {
+			long[] ids = new long[points.size()];
+			double[] latitudes = new double[points.size()];
+			double[] longitudes = new double[points.size()];
+			for (int i = 0; i < points.size(); i++) {
+				ids[i] = points.get(i).getId();
+				latitudes[i] = points.get(i).getLatitude();
+				longitudes[i] = points.get(i).getLongitude();
+			}
+			return new Tile(ids, latitudes, longitudes, loadedAt);
+		}
+
+		private void collectWithin(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, Set<Long> result) {
+			for (int i = 0; i < ids.length; i++) {
+				if (latitudes[i] >= minLatitude && latitudes[i] <= maxLatitude
+						&& longitudes[i] >= minLongitude && longitudes[i] <= maxLongitude) {
+					result.add(ids[i]);
+				}
+			}
+		}
+	}
+}
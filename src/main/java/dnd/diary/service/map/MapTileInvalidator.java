@@ -0,0 +1,92 @@
+package dnd.diary.service.map;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import dnd.diary.service.TransactionUtil;
+import dnd.diary.service.redis.RedisService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지도 타일 무효화
+ * - 게시물/미션을 변경한 트랜잭션 커밋 후 무효화 (커밋 전에 무효화하면 그 사이 조회된 이전 데이터가 다시 캐시됨)
+ * - 현재 서버의 타일을 바로 무효화하고, Redis pub/sub 으로 다른 서버에도 전달
+ * - 메시지 형식 "content:groupId:latitude:longitude", "mission:latitude:longitude", "user-mission:userId"
+ */
+@Slf4j
+@Component
+public class MapTileInvalidator implements MessageListener {
+
+	private static final String DELIMITER = ":";
+	private static final String CONTENT_TYPE = "content";
+	private static final String MISSION_TYPE = "mission";
+	private static final String USER_MISSION_TYPE = "user-mission";
+
+	private final MapTileCache mapTileCache;
+	private final RedisService redisService;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	public MapTileInvalidator(MapTileCache mapTileCache, RedisService redisService,
+							  RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.mapTileCache = mapTileCache;
+		this.redisService = redisService;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+	}
+
+	@PostConstruct
+	public void subscribeChannel() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisService.MAP_TILE_INVALIDATION_CHANNEL));
+	}
+
+	public void evictContent(Long groupId, Double latitude, Double longitude) {
+		if (latitude == null || longitude == null) {
+			return;
+		}
+		invalidateAfterCommit(String.join(DELIMITER, CONTENT_TYPE, String.valueOf(groupId), String.valueOf(latitude), String.valueOf(longitude)));
+	}
+
+	public void evictMission(Double latitude, Double longitude) {
+		if (latitude == null || longitude == null) {
+			return;
+		}
+		invalidateAfterCommit(String.join(DELIMITER, MISSION_TYPE, String.valueOf(latitude), String.valueOf(longitude)));
+	}
+
+	public void evictUserMissions(Long userId) {
+		invalidateAfterCommit(String.join(DELIMITER, USER_MISSION_TYPE, String.valueOf(userId)));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		apply(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	private void invalidateAfterCommit(String invalidation) {
+		TransactionUtil.afterCommit(() -> {
+			apply(invalidation);
+			try {
+				redisService.publishMapTileInvalidation(invalidation);
+			} catch (RuntimeException e) {
+				// 다른 서버의 타일은 TTL 이 지나면 다시 조회
+				log.warn("[지도 타일 무효화 전달 실패] {}", invalidation, e);
+			}
+		});
+	}
+
+	private void apply(String invalidation) {
+		String[] values = invalidation.split(DELIMITER);
+		switch (values[0]) {
+			case CONTENT_TYPE -> mapTileCache.evictContent(Long.valueOf(values[1]), Double.valueOf(values[2]), Double.valueOf(values[3]));
+			case MISSION_TYPE -> mapTileCache.evictMission(Double.valueOf(values[1]), Double.valueOf(values[2]));
+			case USER_MISSION_TYPE -> mapTileCache.evictUserMissions(Long.valueOf(values[1]));
+			default -> log.warn("[지도 타일 무효화] 알 수 없는 메시지 : {}", invalidation);
+		}
+	}
+}
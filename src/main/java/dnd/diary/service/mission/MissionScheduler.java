@@ -1,51 +1,62 @@
 package dnd.diary.service.mission;
 
-import dnd.diary.domain.mission.Mission;
 import dnd.diary.domain.mission.MissionStatus;
-import dnd.diary.domain.mission.UserAssignMission;
+import dnd.diary.domain.mission.MissionStatusResolver;
 import dnd.diary.repository.mission.MissionRepository;
-import dnd.diary.repository.mission.UserAssignMissionRepository;
+import dnd.diary.service.redis.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import javax.transaction.Transactional;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissionScheduler {
 
-    private final UserAssignMissionRepository userAssignMissionRepository;
-    private final MissionRepository missionRepository;
+    private static final String MISSION_STATUS_LOCK = "mission-status";
+    private static final Duration MISSION_STATUS_LOCK_EXPIRATION = Duration.ofMinutes(10);
 
-    @Scheduled(cron = "0 10 15 * * ?")   // UTC 기준으로 동작
-    @Transactional
+    private final MissionRepository missionRepository;
+    private final RedisService redisService;
+
+    /**
+     * 미션 기간에 따른 상태 변경 - 날짜 범위 기준 UPDATE 로 상태가 바뀌는 미션만 변경
+     * 미션 기간은 서울 기준 시작일 00:00:00 ~ 종료일 23:59:59 로 저장 (MissionStatusResolver.missionStartDate / missionEndDate)
+     * 서울 기준 00:10 에 실행해 전날 종료된 미션은 FINISH, 오늘 시작하는 미션은 ACTIVE 로 변경
+     * 여러 서버에서 동시에 실행되지 않도록 Redis 잠금 획득 후 실행
+     * 조회/인증 시에는 MissionStatusResolver 로 상태를 계산하므로, 저장된 상태 컬럼을 맞춰두는 용도
+     */
+    @Scheduled(cron = "0 10 0 * * ?", zone = "Asia/Seoul")
     public void updateMissionStatus() {
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-
-        // 모든 미션에 대해
-        List<Mission> missions = missionRepository.findAll();
-        for (Mission mission : missions) {
-            log.info("[배치 전 미션 상태] : {}", mission.getMissionStatus());
-            LocalDate missionStartDate = mission.getMissionStartDate().toLocalDate();
-            LocalDate missionEndDate = mission.getMissionStartDate().toLocalDate();
-
-            int compareStatus = missionStartDate.compareTo(today);
-
-            if (missionEndDate.isBefore(today)) {
-                mission.updateMissionStatus(MissionStatus.FINISH);
-            } else if (compareStatus > 0) {
-                mission.updateMissionStatus(MissionStatus.READY);
-            } else {
-                mission.updateMissionStatus(MissionStatus.ACTIVE);
-            }
-            log.info("[배치 후 미션 상태] : {}", mission.getMissionStatus());
+        String owner = UUID.randomUUID().toString();
+        if (!redisService.tryLock(MISSION_STATUS_LOCK, owner, MISSION_STATUS_LOCK_EXPIRATION)) {
+            log.info("[미션 상태 변경] 다른 서버에서 실행 중");
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime todayStart = MissionStatusResolver.missionStartDate(LocalDate.now(ZoneId.of("Asia/Seoul")));
+
+            int finishedCount = missionRepository.updateFinishedMissionStatus(
+                    List.of(MissionStatus.READY, MissionStatus.ACTIVE), MissionStatus.FINISH, todayStart
+            );
+            int startedCount = missionRepository.updateStartedMissionStatus(
+                    MissionStatus.READY, MissionStatus.ACTIVE, todayStart, todayStart.plusDays(1)
+            );
+
+            log.info("[미션 상태 변경] READY/ACTIVE -> FINISH : {}건, READY -> ACTIVE : {}건, 소요 시간 : {}ms",
+                    finishedCount, startedCount, System.currentTimeMillis() - start);
+        } finally {
+            redisService.unlock(MISSION_STATUS_LOCK, owner);
         }
-        missionRepository.saveAll(missions);
     }
 }
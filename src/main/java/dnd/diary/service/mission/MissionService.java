@@ -1,38 +1,53 @@
 package dnd.diary.service.mission;
 
-import static dnd.diary.domain.mission.DateUtil.convertLocalDateTimeZone;
 import static dnd.diary.domain.sticker.StickerLevel.getSticker;
 import static dnd.diary.enumeration.Result.*;
 
 import java.time.*;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import dnd.diary.domain.DistanceUtil;
+import dnd.diary.domain.GeoPoint;
+import dnd.diary.domain.GeometryUtil;
 import dnd.diary.domain.mission.UserAssignMission;
 import dnd.diary.domain.sticker.StickerGroup;
-import dnd.diary.domain.user.UserJoinGroup;
 import dnd.diary.request.service.mission.MissionCheckLocationRequest;
 import dnd.diary.request.service.mission.MissionListByMapRequest;
 import dnd.diary.repository.mission.StickerGroupRepository;
 import dnd.diary.response.mission.MissionCheckContentResponse;
 import dnd.diary.response.mission.MissionCheckLocationResponse;
+import dnd.diary.response.mission.MissionNearbyResponse;
 import dnd.diary.service.content.ContentService;
+import dnd.diary.service.map.MapTileCache;
+import dnd.diary.service.map.MapTileInvalidator;
+import dnd.diary.service.s3.S3Service;
+import dnd.diary.service.s3.S3Uploader;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKTReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import dnd.diary.domain.group.Group;
 import dnd.diary.domain.mission.Mission;
 import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.domain.mission.MissionStatusResolver;
 import dnd.diary.domain.user.User;
 import dnd.diary.request.service.group.MissionCreateRequest;
 import dnd.diary.exception.CustomException;
 import dnd.diary.repository.group.GroupRepository;
 import dnd.diary.repository.mission.MissionRepository;
+import dnd.diary.repository.mission.UserAssignMissionJdbcRepository;
 import dnd.diary.repository.mission.UserAssignMissionRepository;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.response.mission.MissionResponse;
@@ -50,19 +65,32 @@ public class MissionService {
 	private final GroupRepository groupRepository;
 	private final UserRepository userRepository;
 	private final UserAssignMissionRepository userAssignMissionRepository;
+	private final UserAssignMissionJdbcRepository userAssignMissionJdbcRepository;
 	private final StickerGroupRepository stickerGroupRepository;
 
 	private final UserService userService;
 	private final ContentService contentService;
 	private final StickerService stickerService;
+	private final MapTileCache mapTileCache;
+	private final MapTileInvalidator mapTileInvalidator;
+	private final CacheManager testCacheManager;
+	private final S3Service s3Service;
+	private final TransactionTemplate transactionTemplate;
 
 //	private final int MISSION_DISTANCE_LIMIT = 50;
 	private final int MISSION_DISTANCE_LIMIT = 200;
 	private final int LEVEL_UP_DEGREE = 3;
 	private final Long MISSION_DEFAULT_D_DAY = 365L;
+	public static final String GROUP_MISSION_CACHE = "GroupMissions";
+	private static final int GROUP_MISSION_LIMIT = 4;
+
+	// SPATIAL INDEX 생성 후 활성화 (src/main/resources/db/mysql/spatial_index.sql)
+	@Value("${map.spatial-search.enabled:false}")
+	private boolean spatialSearchEnabled;
 
 	// 미션 생성
 	@Transactional
+	@CacheEvict(value = GROUP_MISSION_CACHE, allEntries = true, cacheManager = "testCacheManager")
 	public MissionResponse createMission(MissionCreateRequest request, Long userId) throws ParseException {
 		User user = userService.getUser(userId);
 		Group group = findGroup(request.getGroupId());
@@ -70,8 +98,7 @@ public class MissionService {
 		MissionStatus missionStatus = MissionStatus.READY;
 
 		Mission mission = null;
-		String pointWKT = String.format("POINT(%s %s)", request.getLatitude(), request.getLongitude());
-		Point point = (Point) new WKTReader().read(pointWKT);
+		Point point = GeometryUtil.createPoint(request.getLatitude(), request.getLongitude());
 
 		// 미션 기간을 설정하지 않은 경우 - 항상 ACTIVE
 		if (!request.getExistPeriod()) {
@@ -79,48 +106,40 @@ public class MissionService {
 			mission = Mission.toEntity(
 					user, group, request.getMissionName(), request.getMissionNote()
 					, request.getExistPeriod()
-					, convertLocalDateTimeZone(LocalDate.now().atStartOfDay(), ZoneOffset.UTC, ZoneId.of("Asia/Seoul")), null
+					, MissionStatusResolver.missionStartDate(LocalDate.now(ZoneId.of("Asia/Seoul"))), null
 					, request.getMissionLocationName(), request.getMissionLocationAddress()
 					, request.getLatitude(), request.getLongitude()
 					, request.getMissionColor(), missionStatus, point);
 
 		} else {
-			LocalDateTime today = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-			// 미션 시작일 < 오늘 -> 미션 진행중 상태
-			if (today.isAfter(convertLocalDateTimeZone(request.getMissionStartDate().atStartOfDay().minusHours(9), ZoneOffset.UTC, ZoneId.of("Asia/Seoul")))) {
-				missionStatus = MissionStatus.ACTIVE;
-			}
-			// 미션 종료일 < 오늘 -> 미션 종료 상태
-			if (today.isAfter(convertLocalDateTimeZone(request.getMissionEndDate().atStartOfDay().plusDays(1).minusHours(9), ZoneOffset.UTC, ZoneId.of("Asia/Seoul")))) {
-				missionStatus = MissionStatus.FINISH;
-			}
-			// 서버 기준 시간 + 9 -> 00:00 / 23:59 로
+			// 서울 기준 시작일 00:00:00 ~ 종료일 23:59:59
 			mission = Mission.toEntity(user, group, request.getMissionName(), request.getMissionNote()
 					, request.getExistPeriod()
-					, convertLocalDateTimeZone(request.getMissionStartDate().atStartOfDay(), ZoneOffset.UTC, ZoneId.of("Asia/Seoul"))
-					, convertLocalDateTimeZone(request.getMissionEndDate().atTime(23, 59, 59), ZoneOffset.UTC, ZoneId.of("Asia/Seoul"))
+					, MissionStatusResolver.missionStartDate(request.getMissionStartDate())
+					, MissionStatusResolver.missionEndDate(request.getMissionEndDate())
 					, request.getMissionLocationName(), request.getMissionLocationAddress()
 					, request.getLatitude(), request.getLongitude()
 					, request.getMissionColor(), missionStatus, point);
 
 		}
+		// 미션 기간에 따른 현재 상태 - 이후 상태는 조회 시점 기준으로 계산 (MissionStatusResolver)
+		missionStatus = MissionStatusResolver.resolve(mission, MissionStatusResolver.now());
+		mission.updateMissionStatus(missionStatus);
 		missionRepository.save(mission);
+		mapTileInvalidator.evictMission(mission.getLatitude(), mission.getLongitude());
 		log.info("mission startDate : {}", mission.getMissionStartDate());
 
 		// 그룹에 속한 구성원 모두에게 미션 할당
-		List<UserJoinGroup> userJoinGroupList = group.getUserJoinGroups();
-		for (UserJoinGroup userJoinGroup : userJoinGroupList) {
-			User groupUser = userJoinGroup.getUser();
-			UserAssignMission userAssignMission = UserAssignMission.toEntity(groupUser, mission);
-			userAssignMissionRepository.save(userAssignMission);
-		}
+		List<Long> groupUserIds = group.getUserJoinGroups().stream()
+			.map(userJoinGroup -> userJoinGroup.getUser().getId())
+			.toList();
+		userAssignMissionJdbcRepository.batchInsert(groupUserIds, List.of(mission.getId()));
 
 		Long missionDday;
 		if (!request.getExistPeriod()) {
 			missionDday = MISSION_DEFAULT_D_DAY;
 		} else {
-			Period diff = Period.between(LocalDate.now(), request.getMissionEndDate());
-			missionDday = Long.valueOf(diff.getDays());
+			missionDday = ChronoUnit.DAYS.between(LocalDate.now(ZoneId.of("Asia/Seoul")), request.getMissionEndDate());
 		}
 
 		UserAssignMission userAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(user.getId(), mission.getId());
@@ -159,6 +178,7 @@ public class MissionService {
 	
 	// 미션 삭제
 	@Transactional
+	@CacheEvict(value = GROUP_MISSION_CACHE, allEntries = true, cacheManager = "testCacheManager")
 	public void deleteMission(Long missionId, Long userId) {
 		User user = userService.getUser(userId);
 		Mission mission = missionRepository.findMissionByIdAndDeletedYn(missionId, false);
@@ -176,95 +196,102 @@ public class MissionService {
 
 		// 미션 삭제 처리
 		mission.deleteMissionByColumn();
+		mapTileInvalidator.evictMission(mission.getLatitude(), mission.getLongitude());
 	}
 	
 	// 미션 위치 인증
 	@Transactional
 	public MissionCheckLocationResponse checkMissionLocation(Long userId, MissionCheckLocationRequest request) {
 
-		// 유저가 가진 미션이 맞는지 확인
-		User user = userService.getUser(userId);
-		List<UserAssignMission> userAssignMissionList = user.getUserAssignMissions();
-		List<Long> userAssignMissionIdList = new ArrayList<>();
-		List<Long> userAssignMissionGroupIdList = new ArrayList<>();
-		userAssignMissionList.forEach(
-				userAssignMission -> {
-					userAssignMissionIdList.add(userAssignMission.getMission().getId());
-					userAssignMissionGroupIdList.add(userAssignMission.getMission().getGroup().getId());
-				}
-		);
+		// 유저가 가진 미션이 맞는지 확인 - 할당 정보와 미션, 그룹을 한 번에 조회
+		UserAssignMission userAssignMission = userAssignMissionRepository
+				.findWithMissionByUserIdAndMissionId(userId, request.getMissionId())
+				.orElseThrow(() -> new CustomException(INVALID_USER_MISSION));
+		Mission targetMission = userAssignMission.getMission();
+
 		// 해당 그룹의 미션이 맞는지 확인
-		if (!userAssignMissionGroupIdList.contains(request.getGroupId())) {
+		if (!targetMission.getGroup().getId().equals(request.getGroupId())) {
 			throw new CustomException(INVALID_GROUP_MISSION);
 		}
-		// 유저가 가진 미션이 맞는지 확인
-		if (!userAssignMissionIdList.contains(request.getMissionId())) {
-			throw new CustomException(INVALID_USER_MISSION);
-		}
-
-		Mission targetMission = missionRepository.findMissionByIdAndDeletedYn(request.getMissionId(), false);
-		if (targetMission == null) {
+		if (targetMission.isDeletedYn()) {
 			throw new CustomException(NOT_FOUND_MISSION);
 		}
 
 		// 미션 진행 기간인지 확인
-		if (targetMission.getMissionStatus() != MissionStatus.ACTIVE) {
+		if (MissionStatusResolver.resolve(targetMission, MissionStatusResolver.now()) != MissionStatus.ACTIVE) {
 			throw new CustomException(INVALID_MISSION_PERIOD);
 		}
 
-		// 미션 위치 기준 현재 자신의 위치가 반경 50m 이내에 있는지 체크
-		boolean checkLocationMissionFlag = false;
-		Double checkDistance = distance(request.getCurrLatitude(), request.getCurrLongitude()
+		// 미션 위치 기준 현재 자신의 위치가 반경 MISSION_DISTANCE_LIMIT 이내에 있는지 체크
+		int checkDistance = (int) DistanceUtil.distance(request.getCurrLatitude(), request.getCurrLongitude()
 				, targetMission.getLatitude(), targetMission.getLongitude());
 
-		UserAssignMission checkUserAssignMission = null;
-		for (UserAssignMission userAssignMission : targetMission.getUserAssignMissions()) {
-			if (user.getId().equals(userAssignMission.getUser().getId())) {
-				checkUserAssignMission = userAssignMission;
-
-				if (checkDistance.intValue() <= MISSION_DISTANCE_LIMIT) {
-					checkLocationMissionFlag = true;
-					checkUserAssignMission.completeLocationCheck();
-					user.updateSubLevel();
-				}
-				break;
-			}
+		boolean checkLocationMissionFlag = checkDistance <= MISSION_DISTANCE_LIMIT;
+		if (checkLocationMissionFlag) {
+			userAssignMission.completeLocationCheck();
+			evictGroupMissionCache(targetMission.getGroup().getId(), userId);
+			userService.getUser(userId).updateSubLevel();
 		}
 
 		return MissionCheckLocationResponse.builder()
 				.missionId(targetMission.getId())
-				.distance(checkDistance.intValue())
+				.distance(checkDistance)
 				.locationCheck(checkLocationMissionFlag)
-				.contentCheck(checkUserAssignMission.getContentCheck())
-				.isComplete(checkUserAssignMission.getIsComplete())
+				.contentCheck(userAssignMission.getContentCheck())
+				.isComplete(userAssignMission.getIsComplete())
 				.build();
 	}
 
-	private static double distance(double lat1, double lon1, double lat2, double lon2){
-		double theta = lon1 - lon2;
-		double dist = Math.sin(deg2rad(lat1))* Math.sin(deg2rad(lat2)) + Math.cos(deg2rad(lat1))*Math.cos(deg2rad(lat2))*Math.cos(deg2rad(theta));
-
-		dist = Math.acos(dist);
-		dist = rad2deg(dist);
-
-		dist = dist * 60 * 1.1515 * 1609.344;
-
-		return dist;  // 단위 m
+	// 현재 위치 반경 MISSION_DISTANCE_LIMIT 이내의 진행 중인 내 미션 - 가까운 순
+	public List<MissionNearbyResponse> getNearbyMissionList(Long userId, Double latitude, Double longitude) {
+		// 반경을 포함하는 사각 범위를 인덱스로 조회한 뒤 실제 거리로 다시 확인
+		double[] boundingBox = DistanceUtil.boundingBox(latitude, longitude, MISSION_DISTANCE_LIMIT);
+		List<Mission> candidateMissions = spatialSearchEnabled ?
+				missionRepository.findWithinMapByUserId(userId, GeometryUtil.toPolygonWKT(
+						boundingBox[0], boundingBox[1], boundingBox[2], boundingBox[3])) :
+				missionRepository.findWithinMapByUserId(userId,
+						boundingBox[0], boundingBox[2], boundingBox[1], boundingBox[3]);
+
+		LocalDateTime now = MissionStatusResolver.now();
+		DistanceUtil.Origin origin = DistanceUtil.from(latitude, longitude);
+		List<MissionNearbyResponse> nearbyMissionList = new ArrayList<>();
+		for (Mission mission : candidateMissions) {
+			if (MissionStatusResolver.resolve(mission, now) != MissionStatus.ACTIVE) {
+				continue;
+			}
+			int distance = (int) origin.distanceTo(mission.getLatitude(), mission.getLongitude());
+			if (distance > MISSION_DISTANCE_LIMIT) {
+				continue;
+			}
+			nearbyMissionList.add(MissionNearbyResponse.builder()
+					.missionId(mission.getId())
+					.missionName(mission.getMissionName())
+					.groupId(mission.getGroup().getId())
+					.missionLocationName(mission.getMissionLocationName())
+					.latitude(mission.getLatitude())
+					.longitude(mission.getLongitude())
+					.distance(distance)
+					.build());
+		}
+		nearbyMissionList.sort(Comparator.comparing(MissionNearbyResponse::getDistance));
+		return nearbyMissionList;
 	}
 
-	// 10진수를 radian 으로 변환
-	private static double deg2rad(double deg){
-		return (deg * Math.PI / 180.0);
-	}
-	// radian 을 10진수로 변환
-	private static double rad2deg(double rad){
-		return (rad * 180 / Math.PI);
+	// 미션 게시물 인증 - 이미지는 트랜잭션 시작 전에 업로드 (업로드 동안 DB 커넥션을 점유하지 않도록)
+	public MissionCheckContentResponse checkMissionContent(Long userId, List<MultipartFile> multipartFiles, Long missionId, String content) {
+		List<S3Uploader.UploadedFile> uploadedFiles = multipartFiles == null ? null : s3Service.uploadFiles(multipartFiles);
+		try {
+			return transactionTemplate.execute(status -> completeMissionContent(userId, uploadedFiles, missionId, content));
+		} catch (RuntimeException e) {
+			// 트랜잭션 롤백 후 업로드한 이미지의 참조 해제 (다른 게시물이 사용하지 않는 이미지는 삭제)
+			if (uploadedFiles != null) {
+				s3Service.deleteUploadedFiles(uploadedFiles);
+			}
+			throw e;
+		}
 	}
 
-	// 미션 게시물 인증
-	@Transactional
-	public MissionCheckContentResponse checkMissionContent(Long userId, List<MultipartFile> multipartFiles, Long missionId, String content) throws ParseException {
-
+	private MissionCheckContentResponse completeMissionContent(Long userId, List<S3Uploader.UploadedFile> uploadedFiles, Long missionId, String content) {
 		User user = userService.getUser(userId);
 		Mission targetMission = missionRepository.findMissionByIdAndDeletedYn(missionId, false);
 
@@ -273,7 +300,7 @@ public class MissionService {
 		}
 
 		// 미션 진행 기간인지 확인
-		if (targetMission.getMissionStatus() != MissionStatus.ACTIVE) {
+		if (MissionStatusResolver.resolve(targetMission, MissionStatusResolver.now()) != MissionStatus.ACTIVE) {
 			throw new CustomException(INVALID_MISSION_PERIOD);
 		}
 		UserAssignMission targetUserAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(user.getId(), missionId);
@@ -286,13 +313,15 @@ public class MissionService {
 			throw new CustomException(ALREADY_COMPLETE_MISSION);
 		}
 
-		contentService.createContent(
-				userId, multipartFiles, targetMission.getGroup().getId(), content,
+		contentService.createContentWithStoredImages(
+				userId, uploadedFiles, targetMission.getGroup().getId(), content,
 				targetMission.getLatitude(), targetMission.getLongitude(), targetMission.getMissionLocationName()
 		);
 
 		// 유저 미션 게시글 인증 상태 업데이트
 		targetUserAssignMission.completeContentCheck();
+		mapTileInvalidator.evictUserMissions(user.getId());
+		evictGroupMissionCache(targetMission.getGroup().getId(), user.getId());
 
 		// 미션 인증 레벨 업데이트
 		user.updateSubLevel();
@@ -339,45 +368,56 @@ public class MissionService {
 
 	// 미션 상태별 목록 조회 (0 : 전체, 1 : 시작 전, 2 : 진행중, 3 : 종료)
 	public List<MissionResponse> getMissionList(Long userId, int missionStatus) {
+		return getIncompleteMissionList(userId, List.of(MissionStatus.getName(missionStatus)));
+	}
 
+	// 미션 상태는 조회 시점의 시작일/종료일 기준으로 쿼리에서 필터링, d-day 순 정렬까지 쿼리에서 처리
+	private List<MissionResponse> getIncompleteMissionList(Long userId, List<MissionStatus> missionStatuses) {
 		User user = userService.getUser(userId);
-		MissionStatus findMissionStatus = MissionStatus.getName(missionStatus);
-		List<UserAssignMission> userAssignMissionList = user.getUserAssignMissions();
-		List<MissionResponse> missionResponseList = new ArrayList<>();
+		LocalDateTime now = MissionStatusResolver.now();
 
-		for (UserAssignMission userAssignMission : userAssignMissionList) {
-			Mission mission = userAssignMission.getMission();
+		return missionRepository.findIncompleteMissionRowList(user.getId(), missionStatuses, now).stream()
+			.map(missionRow -> toMissionResponse(missionRow, user, now))
+			.collect(Collectors.toList());
+	}
 
-			if (userAssignMission.getIsComplete()) continue;
+	private MissionResponse toMissionResponse(MissionResponse.MissionRow missionRow, User user, LocalDateTime now) {
+		MissionResponse missionResponse = MissionResponse.builder()
+			.missionId(missionRow.getMissionId())
+			.missionName(missionRow.getMissionName())
+			.missionNote(missionRow.getMissionNote())
 
-			if (mission.isDeletedYn()) continue;
+			.createUserId(missionRow.getCreateUserId())
+			.createUserName(missionRow.getCreateUserName())
+			.createUserProfileImageUrl(missionRow.getCreateUserProfileImageUrl())
 
-			if (MissionStatus.ALL == findMissionStatus) {
-				MissionResponse missionResponse = toMissionResponse(mission);
+			.groupId(missionRow.getGroupId())
+			.groupName(missionRow.getGroupName())
+			.groupImageUrl(missionRow.getGroupImageUrl())
 
-				MissionResponse.UserAssignMissionInfo userAssignMissionInfo = getUserAssignMissionInfo(user, mission, userAssignMission);
-				missionResponse.setUserAssignMissionInfo(userAssignMissionInfo);
+			.existPeriod(missionRow.getExistPeriod())
+			.missionStartDate(toMissionStartDate(missionRow.getMissionStartDate()))
+			.missionEndDate(toMissionEndDate(missionRow.getMissionEndDate()))
 
-				missionResponseList.add(missionResponse);
-			} else {
-				// 1 : 시작 전, 2 : 진행중 인 미션 중, 이미 기간이 끝났지만 배치 처리로 미션 상태 변경이 정상 동작하지 않은 경우
-				if (findMissionStatus == mission.getMissionStatus()) {
-					if ((MissionStatus.READY == mission.getMissionStatus() || MissionStatus.ACTIVE == mission.getMissionStatus())
-						&& mission.getMissionEndDate() != null
-						&& LocalDateTime.now(ZoneId.of("Asia/Seoul")).isAfter(mission.getMissionEndDate())) {
-						continue;
-					}
-					MissionResponse missionResponse = toMissionResponse(mission);
-
-					MissionResponse.UserAssignMissionInfo userAssignMissionInfo = getUserAssignMissionInfo(user, mission, userAssignMission);
-					missionResponse.setUserAssignMissionInfo(userAssignMissionInfo);
-
-					missionResponseList.add(missionResponse);
-				}
-			}
-		}
-		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
-		return missionResponseList;
+			.missionStatus(MissionStatusResolver.resolve(missionRow.getMissionStartDate(), missionRow.getMissionEndDate(), now))
+			.missionLocationName(missionRow.getMissionLocationName())
+			.missionLocationAddress(missionRow.getMissionLocationAddress())
+			.latitude(missionRow.getLatitude())
+			.longitude(missionRow.getLongitude())
+
+			.missionDday(getMissionDday(missionRow.getMissionEndDate(), now))
+			.missionColor(missionRow.getMissionColor())
+			.build();
+
+		missionResponse.setUserAssignMissionInfo(MissionResponse.UserAssignMissionInfo.builder()
+			.userId(user.getId())
+			.userNickname(user.getNickName())
+			.missionId(missionRow.getMissionId())
+			.locationCheck(missionRow.getLocationCheck())
+			.contentCheck(missionRow.getContentCheck())
+			.isComplete(missionRow.getIsComplete())
+			.build());
+		return missionResponse;
 	}
 
 	private MissionResponse.UserAssignMissionInfo getUserAssignMissionInfo(User user, Mission mission, UserAssignMission userAssignMission) {
@@ -392,46 +432,31 @@ public class MissionService {
 	}
 
 	// 그룹 메인 진입 페이지 내 [시작 전/진행 중] 미션 목록 조회 - 최대 4개
+	// 사용자별 완료 여부가 포함되므로 (그룹, 사용자) 단위로 캐시 - 미션 생성/삭제, 인증 시 삭제
+	@Cacheable(value = GROUP_MISSION_CACHE, key = "#groupId + ':' + #userId", cacheManager = "testCacheManager")
 	public List<MissionResponse> getReadyAndActiveGroupMissionList(Long userId, int groupId) {
 
 		User user = userService.getUser(userId);
 		Group group = findGroup(Long.parseLong(String.valueOf(groupId)));
+		LocalDateTime now = MissionStatusResolver.now();
 
-		List<MissionResponse> missionResponseList = new ArrayList<>();
-
-		List<Mission> missionListInGroup = group.getMissions();
-		for (Mission mission : missionListInGroup) {
-			if (mission.getMissionStatus() == MissionStatus.READY || mission.getMissionStatus() == MissionStatus.ACTIVE) {
-				MissionResponse missionResponse = toMissionResponse(mission);
-
-				UserAssignMission userAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(user.getId(), mission.getId());
-				if (userAssignMission == null) {
-					throw new CustomException(INVALID_USER_MISSION);
-				}
-				if (!userAssignMission.getIsComplete()) {   // 사용자가 완료한 미션은 제외
-					MissionResponse.UserAssignMissionInfo userAssignMissionInfo = getUserAssignMissionInfo(user, mission, userAssignMission);
-					missionResponse.setUserAssignMissionInfo(userAssignMissionInfo);
-
-					missionResponseList.add(missionResponse);
-				}
-			}
-		}
+		return missionRepository.findIncompleteGroupMissionRowList(
+				user.getId(), group.getId(), List.of(MissionStatus.READY, MissionStatus.ACTIVE), now, GROUP_MISSION_LIMIT
+			).stream()
+			.map(missionRow -> toMissionResponse(missionRow, user, now))
+			.collect(Collectors.toList());
+	}
 
-		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
-		List<MissionResponse> maxFourMissionResponseList = new ArrayList<>();
-		for (int i = 0; i < 4; i++) {
-			if (i < missionResponseList.size()) {
-				maxFourMissionResponseList.add(missionResponseList.get(i));
-			}
+	private void evictGroupMissionCache(Long groupId, Long userId) {
+		Cache cache = testCacheManager.getCache(GROUP_MISSION_CACHE);
+		if (cache != null) {
+			cache.evict(groupId + ":" + userId);
 		}
-		return maxFourMissionResponseList;
 	}
 
 	// 시작 전인 미션 + 진행 중인 미션 전체
 	public List<MissionResponse> getReadyAndActiveMissionList(Long userId) {
-		List<MissionResponse> missionResponseList = getMissionList(userId, MissionStatus.READY.getCode());
-		missionResponseList.addAll(getMissionList(userId, MissionStatus.ACTIVE.getCode()));
-		return missionResponseList;
+		return getIncompleteMissionList(userId, List.of(MissionStatus.READY, MissionStatus.ACTIVE));
 	}
 
 	public MissionResponse getMission(Long missionId, Long userId) {
@@ -452,6 +477,10 @@ public class MissionService {
 	}
 
 	private MissionResponse toMissionResponse(Mission mission) {
+		return toMissionResponse(mission, MissionStatusResolver.now());
+	}
+
+	private MissionResponse toMissionResponse(Mission mission, LocalDateTime now) {
 		return MissionResponse.builder()
 			.missionId(mission.getId())
 			.missionName(mission.getMissionName())
@@ -466,57 +495,80 @@ public class MissionService {
 			.groupImageUrl(mission.getGroup().getGroupImageUrl())
 
 			.existPeriod(mission.getExistPeriod())
-			.missionStartDate(
-					mission.getMissionStartDate() != null ? String.valueOf(mission.getMissionStartDate()).substring(0, 10).replace("-", ".") : String.valueOf(mission.getMissionStartDate())
-			)
-			.missionEndDate(mission.getMissionEndDate() != null ? String.valueOf(mission.getMissionEndDate()).substring(0, 10).replace("-", ".") : "ing")
+			.missionStartDate(toMissionStartDate(mission.getMissionStartDate()))
+			.missionEndDate(toMissionEndDate(mission.getMissionEndDate()))
 
-			.missionStatus(mission.getMissionStatus())
+			.missionStatus(MissionStatusResolver.resolve(mission, now))
 			.missionLocationName(mission.getMissionLocationName())
 			.missionLocationAddress(mission.getMissionLocationAddress())
 			.latitude(mission.getLatitude())
 			.longitude(mission.getLongitude())
 
-			.missionDday(
-					mission.getMissionEndDate() != null ? (long) Period.between(LocalDate.now(ZoneId.of("Asia/Seoul")), mission.getMissionEndDate().toLocalDate()).getDays() : MISSION_DEFAULT_D_DAY
-			)
+			.missionDday(getMissionDday(mission.getMissionEndDate(), now))
 			.missionColor(mission.getMissionColor())
 			.build();
 	}
 
+	private String toMissionStartDate(LocalDateTime missionStartDate) {
+		return missionStartDate != null ? String.valueOf(missionStartDate).substring(0, 10).replace("-", ".") : String.valueOf(missionStartDate);
+	}
+
+	private String toMissionEndDate(LocalDateTime missionEndDate) {
+		return missionEndDate != null ? String.valueOf(missionEndDate).substring(0, 10).replace("-", ".") : "ing";
+	}
+
+	// 미션 종료까지 남은 일수 - 기간이 없는 미션은 기본값
+	private Long getMissionDday(LocalDateTime missionEndDate, LocalDateTime now) {
+		return missionEndDate != null ? ChronoUnit.DAYS.between(now.toLocalDate(), missionEndDate.toLocalDate()) : MISSION_DEFAULT_D_DAY;
+	}
+
 	// 유저에게 할당된 미션 중, 지도 범위 내에 존재하는 미션 목록 조회
 	public List<MissionResponse> getMissionListByMap(MissionListByMapRequest missionListByMapRequest, Long userId) {
 
 		User user = userService.getUser(userId);
-		List<Mission> userMissionList = new ArrayList<>();
-		user.getUserAssignMissions().forEach(
-				userAssignMission -> {
-					if (!userAssignMission.getIsComplete()) {   // 이미 완료한 미션은 지도 모아보기에서 제외
-						userMissionList.add(userAssignMission.getMission());
-					}
-				}
-		);
 		List<MissionResponse> missionResponseList = new ArrayList<>();
 		MissionListByMapRequest request = missionListByMapRequest.setStartXY();
 
-		List<Mission> userMissionListWithInMap = missionRepository.findWithinMap(
-				request.getStartLatitude(), request.getEndLatitude(), request.getStartLongitude(), request.getEndLongitude()
-		);
+		// 이미 완료한 미션은 지도 모아보기에서 제외 - 할당 여부/완료 여부는 쿼리에서 필터링
+		List<Mission> userMissionListWithInMap = findMissionsWithinMap(user.getId(), request);
+		LocalDateTime now = MissionStatusResolver.now();
 
 		for (Mission mission : userMissionListWithInMap) {
-			if (mission.isDeletedYn()) continue;
-
-			if (!userMissionList.contains(mission)) {   // 유저에게 할당된 미션이 아닌 경우
-				continue;
-			}
-			if (mission.getMissionStatus() == MissionStatus.ACTIVE || mission.getMissionStatus() == MissionStatus.READY) {
-				missionResponseList.add(toMissionResponse(mission));
+			MissionStatus missionStatus = MissionStatusResolver.resolve(mission, now);
+			if (missionStatus == MissionStatus.ACTIVE || missionStatus == MissionStatus.READY) {
+				missionResponseList.add(toMissionResponse(mission, now));
 			}
 		}
 		missionResponseList.sort(Comparator.comparing(MissionResponse::getMissionDday));
 		return missionResponseList;
 	}
 
+	private List<Mission> findMissionsWithinMap(Long userId, MissionListByMapRequest request) {
+		double minLatitude = Math.min(request.getStartLatitude(), request.getEndLatitude());
+		double maxLatitude = Math.max(request.getStartLatitude(), request.getEndLatitude());
+		double minLongitude = Math.min(request.getStartLongitude(), request.getEndLongitude());
+		double maxLongitude = Math.max(request.getStartLongitude(), request.getEndLongitude());
+
+		// 지도 이동/확대 시 타일 캐시에서 미션 ID 를 모은 뒤 한 번에 조회
+		if (mapTileCache.isCacheable(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+			List<Long> missionIds = mapTileCache.findIdsWithin(
+					MapTileCache.missionScope(userId), minLatitude, minLongitude, maxLatitude, maxLongitude,
+					(tileMinLatitude, tileMaxLatitude, tileMinLongitude, tileMaxLongitude) ->
+							missionRepository.findWithinMapByUserId(userId, tileMinLatitude, tileMaxLatitude, tileMinLongitude, tileMaxLongitude)
+									.stream()
+									.map(mission -> new GeoPoint(mission.getId(), mission.getLatitude(), mission.getLongitude()))
+									.collect(Collectors.toList())
+			);
+			return missionIds.isEmpty() ? new ArrayList<>() : missionRepository.findAllById(missionIds);
+		}
+
+		return spatialSearchEnabled ?
+				missionRepository.findWithinMapByUserId(userId, GeometryUtil.toPolygonWKT(
+						request.getStartLatitude(), request.getStartLongitude(), request.getEndLatitude(), request.getEndLongitude())) :
+				missionRepository.findWithinMapByUserId(userId,
+						request.getStartLatitude(), request.getEndLatitude(), request.getStartLongitude(), request.getEndLongitude());
+	}
+
 	// 완료한 미션 목록 조회
 	public List<MissionResponse> getCompleteMissionList(Long userId) {
 		User user = userService.getUser(userId);
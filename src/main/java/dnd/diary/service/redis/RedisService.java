@@ -5,9 +5,19 @@ import dnd.diary.domain.content.Content;
 import dnd.diary.domain.user.User;
 import dnd.diary.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static dnd.diary.enumeration.Result.REDIS_VALUE_NOT_FOUND;
 
@@ -15,6 +25,23 @@ import static dnd.diary.enumeration.Result.REDIS_VALUE_NOT_FOUND;
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final String DIRTY_VIEWS_KEY = "views:dirty";
+    private static final String TIMELINE_KEY_PREFIX = "timeline:";
+    private static final String TIMELINE_REBUILDING_MEMBER = "rebuilding";
+    private static final long TIMELINE_REBUILDING_SCORE = -1;   // 최신순 조회와 개수 유지에서 가장 뒤에 위치
+    private static final Duration TIMELINE_REBUILD_EXPIRATION = Duration.ofMinutes(1);   // 생성 중 실패한 경우 만료
+    private static final Duration TIMELINE_EXPIRATION = Duration.ofDays(7);
+    private static final String UNREAD_NOTIFICATION_KEY_PREFIX = "notification:unread:";
+    private static final String UNREAD_NOTIFICATION_USERS_KEY = "notification:unread:users";
+    private static final Duration UNREAD_NOTIFICATION_EXPIRATION = Duration.ofHours(1);
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final String PENDING_UPLOAD_KEY = "upload:pending";
+    private static final String PENDING_UPLOAD_DELIMITER = ":";
+    private static final String CONFIRMED_UPLOAD_OWNER = "confirmed";
+    public static final String NOTIFICATION_PUSH_CHANNEL = "notification:push";
+    public static final String NOTIFICATION_PUSH_DELIMITER = ":";
+    public static final String MAP_TILE_INVALIDATION_CHANNEL = "map:tile:invalidation";
+
     private final RedisDao redisDao;
 
     public Boolean setValues(String key, String value) {
@@ -32,14 +59,23 @@ public class RedisService {
         return values;
     }
 
-    public Integer getValuesInteger(Long key) {
-        String values = redisDao.getValues(key.toString());
+    // 여러 key 의 값을 MGET 한 번으로 조회 - 요청한 key 순서대로 반환하며, 값이 없는 key 는 null
+    public List<String> getMultiValues(List<String> keys) {
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return redisDao.multiGetValues(keys);
+    }
 
-        if (values.isBlank()) {
-            throw new CustomException(REDIS_VALUE_NOT_FOUND);
+    // Redis 에 조회수가 없는 경우(flush, 유실) DB 에 반영된 조회수로 응답
+    public int getViews(Long contentId, long persistedViews) {
+        String values = redisDao.getValues(contentId.toString());
+
+        if (values == null || values.isBlank()) {
+            return (int) persistedViews;
         }
 
-        return Integer.valueOf(values);
+        return Integer.parseInt(values);
     }
 
     public Boolean logoutFromRedis(String email, String accessToken, Long accessTokenExpiration) {
@@ -48,24 +84,226 @@ public class RedisService {
         return true;
     }
 
-    public int getViewsAndRedisSave(Long contentId, String nickName) {
-        String redisKey = contentId.toString();
-        String values = redisDao.getValues(redisKey);
+    public int getViewsAndRedisSave(Long contentId, String nickName, long persistedViews) {
+        Long views = redisDao.increaseViews(
+                contentId.toString(), "viewer" + contentId, DIRTY_VIEWS_KEY, nickName, persistedViews
+        );
+        return views == null ? (int) persistedViews : views.intValue();
+    }
+
+    // DB 에 반영되지 않은 조회수를 가진 게시물 ID 를 최대 count 개 꺼내 조회수와 함께 반환
+    public Map<Long, Long> popDirtyViews(int count) {
+        List<String> contentIds = redisDao.popSetValues(DIRTY_VIEWS_KEY, count);
+        if (contentIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<String> views = redisDao.multiGetValues(contentIds);
+        Map<Long, Long> dirtyViews = new HashMap<>();
+        for (int i = 0; i < contentIds.size(); i++) {
+            if (views.get(i) != null) {
+                dirtyViews.put(Long.valueOf(contentIds.get(i)), Long.valueOf(views.get(i)));
+            }
+        }
+        return dirtyViews;
+    }
+
+    // DB 반영에 실패한 게시물을 다음 주기에 다시 반영하도록 복구
+    public void restoreDirtyViews(Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return;
+        }
+        redisDao.addSetValues(DIRTY_VIEWS_KEY, contentIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 그룹 구성원들의 타임라인에 게시물 추가 - 작성 시각(score) 기준 최신 maxSize 개만 유지
+    public void pushTimeline(Collection<Long> userIds, Long contentId, long createdAt, long maxSize) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisDao.pushSortedSetValues(
+                userIds.stream().map(this::getTimelineKey).toList(), contentId.toString(), createdAt, maxSize
+        );
+    }
+
+    public void removeTimeline(Collection<Long> userIds, Long contentId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisDao.removeSortedSetValues(userIds.stream().map(this::getTimelineKey).toList(), contentId.toString());
+    }
 
-        int views = Integer.parseInt(values);
+    // 다시 생성 중인 타임라인은 없는 것으로 처리
+    public boolean hasTimeline(Long userId) {
+        String key = getTimelineKey(userId);
+        return redisDao.hasKey(key) && redisDao.getSortedSetScore(key, TIMELINE_REBUILDING_MEMBER) == null;
+    }
+
+    /**
+     * 타임라인 다시 생성 시작 - DB 조회 전에 생성 중 표시만 있는 key 를 먼저 만들어
+     * 조회하는 동안 작성된 게시물도 pushTimeline 으로 추가되도록 함 (다른 요청이 생성 중이거나 이미 있으면 false)
+     */
+    public boolean startTimelineRebuild(Long userId) {
+        return redisDao.addSortedSetValueIfAbsent(
+                getTimelineKey(userId), TIMELINE_REBUILDING_MEMBER, TIMELINE_REBUILDING_SCORE, TIMELINE_REBUILD_EXPIRATION
+        );
+    }
+
+    // DB 에서 조회한 타임라인을 생성 중 추가된 게시물과 병합 - 그 사이 삭제(deleteTimeline)되었거나 만료된 경우 저장하지 않음
+    public void completeTimelineRebuild(Long userId, Map<Long, Long> timeline, long maxSize) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        timeline.forEach((contentId, createdAt) -> values.put(contentId.toString(), createdAt));
+        redisDao.mergeSortedSetValuesIfMarked(
+                getTimelineKey(userId), TIMELINE_REBUILDING_MEMBER, values, maxSize, TIMELINE_EXPIRATION
+        );
+    }
 
-        if (redisDao.getValuesList(nickName).contains(redisKey) == false) {
-            redisDao.setValuesList(nickName, redisKey);
-            views = Integer.parseInt(values) + 1;
-            redisDao.setValues(redisKey, String.valueOf(views));
+    // 최신 게시물부터 count 개의 (게시물 ID, 작성 시각) 반환
+    public Map<Long, Long> getTimeline(Long userId, long count) {
+        String key = getTimelineKey(userId);
+        Map<Long, Long> timeline = new LinkedHashMap<>();
+        redisDao.getSortedSetReverseRange(key, 0, count - 1).stream()
+                .filter(tuple -> !TIMELINE_REBUILDING_MEMBER.equals(tuple.getValue()))
+                .forEach(tuple -> timeline.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+        redisDao.expire(key, TIMELINE_EXPIRATION);
+        return timeline;
+    }
+
+    public void saveTimeline(Long userId, Map<Long, Long> timeline) {
+        if (timeline.isEmpty()) {
+            return;
         }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        timeline.forEach((contentId, createdAt) -> tuples.add(new DefaultTypedTuple<>(contentId.toString(), (double) createdAt)));
+        redisDao.addSortedSetValues(getTimelineKey(userId), tuples, TIMELINE_EXPIRATION);
+    }
+
+    public void deleteTimeline(Collection<Long> userIds) {
+        userIds.forEach(userId -> redisDao.deleteValues(getTimelineKey(userId)));
+    }
+
+    private String getTimelineKey(Long userId) {
+        return TIMELINE_KEY_PREFIX + userId;
+    }
 
-        return views;
+    // 읽지 않은 알림 개수 - 없으면 null (DB 에서 계산 후 setUnreadNotificationCount)
+    public Long getUnreadNotificationCount(Long userId) {
+        String values = redisDao.getValues(getUnreadNotificationKey(userId));
+        return values == null ? null : Long.valueOf(values);
     }
 
-    public boolean isCheckAddBookmark(String email, Long contentId) {
-        return redisDao.getValuesList("bookmark" + email)
-                .contains(contentId.toString());
+    // 만료 시간 동안 증감으로 유지하고, 저장 후 한 번 DB 와 맞추기 위해 사용자 목록에 추가 (NotificationCountScheduler)
+    public void setUnreadNotificationCount(Long userId, long count) {
+        redisDao.setValues(getUnreadNotificationKey(userId), String.valueOf(count), UNREAD_NOTIFICATION_EXPIRATION);
+        redisDao.addSetValues(UNREAD_NOTIFICATION_USERS_KEY, userId.toString());
     }
 
+    public void increaseUnreadNotificationCount(Collection<Long> userIds) {
+        increaseUnreadNotificationCount(userIds, 1);
+    }
+
+    public void increaseUnreadNotificationCount(Collection<Long> userIds, long delta) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisDao.increaseValuesIfExists(userIds.stream().map(this::getUnreadNotificationKey).toList(), delta);
+    }
+
+    public void decreaseUnreadNotificationCount(Long userId) {
+        redisDao.increaseValuesIfExists(List.of(getUnreadNotificationKey(userId)), -1);
+    }
+
+    // DB 와 맞출 사용자를 최대 count 명 꺼내 현재 개수와 함께 반환 - 한 번의 MGET 으로 조회하고 만료된 사용자는 제외
+    public Map<Long, Long> popUnreadNotificationUsers(int count) {
+        List<Long> userIds = redisDao.popSetValues(UNREAD_NOTIFICATION_USERS_KEY, count).stream()
+                .map(Long::valueOf)
+                .toList();
+        if (userIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        List<String> values = redisDao.multiGetValues(userIds.stream().map(this::getUnreadNotificationKey).toList());
+        Map<Long, Long> unreadCounts = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (values.get(i) != null) {
+                unreadCounts.put(userIds.get(i), Long.valueOf(values.get(i)));
+            }
+        }
+        return unreadCounts;
+    }
+
+    /**
+     * DB 에서 계산한 개수로 보정 - 보정한 사용자 수 반환
+     * popUnreadNotificationUsers 로 조회한 뒤 증감되었거나 만료된 사용자는 변경하지 않고, 만료 시간과 사용자 목록도 그대로 유지
+     * (보정 때마다 만료 시간을 늘리면 key 가 만료되지 않음)
+     */
+    public long replaceUnreadNotificationCounts(Map<Long, Long> cachedCounts, Map<Long, Long> counts) {
+        if (cachedCounts.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = new ArrayList<>(cachedCounts.keySet());
+        Long replaced = redisDao.replaceValuesIfEquals(
+                userIds.stream().map(this::getUnreadNotificationKey).toList(),
+                userIds.stream().map(userId -> String.valueOf(cachedCounts.get(userId))).toList(),
+                userIds.stream().map(userId -> String.valueOf(counts.getOrDefault(userId, 0L))).toList()
+        );
+        return replaced == null ? 0 : replaced;
+    }
+
+    private String getUnreadNotificationKey(Long userId) {
+        return UNREAD_NOTIFICATION_KEY_PREFIX + userId;
+    }
+
+    // 새 알림 발생을 모든 서버에 전달 - 메시지 형식 "userId:notificationType"
+    public void publishNotification(Collection<Long> userIds, String notificationType) {
+        userIds.forEach(userId -> redisDao.publish(
+                NOTIFICATION_PUSH_CHANNEL, userId + NOTIFICATION_PUSH_DELIMITER + notificationType
+        ));
+    }
+
+    // 지도 타일 무효화를 모든 서버에 전달 (MapTileInvalidator)
+    public void publishMapTileInvalidation(String message) {
+        redisDao.publish(MAP_TILE_INVALIDATION_CHANNEL, message);
+    }
+
+    // 직접 업로드 대기 파일 - member "userId:fileName", score 는 정리 대상이 되는 시각
+    public void addPendingUploads(Long userId, List<String> fileNames, long expiredAt) {
+        fileNames.forEach(fileName -> redisDao.addSortedSetValue(PENDING_UPLOAD_KEY, getPendingUploadMember(userId, fileName), expiredAt));
+    }
+
+    // 업로드 확인 - 요청한 사용자의 대기 파일이 맞으면 대기 목록에서 제거하고 true
+    public boolean removePendingUpload(Long userId, String fileName) {
+        return redisDao.removeSortedSetValue(PENDING_UPLOAD_KEY, getPendingUploadMember(userId, fileName));
+    }
+
+    /**
+     * 확인이 끝난 업로드 경로 - 업로드 URL 이 만료될 때까지 다시 업로드될 수 있으므로 expiredAt 이후 한 번 더 삭제
+     * 사용자 ID 대신 CONFIRMED_UPLOAD_OWNER 로 저장해 업로드 확인에는 사용할 수 없음
+     */
+    public void addConfirmedUploads(List<String> fileNames, long expiredAt) {
+        fileNames.forEach(fileName -> redisDao.addSortedSetValue(
+                PENDING_UPLOAD_KEY, CONFIRMED_UPLOAD_OWNER + PENDING_UPLOAD_DELIMITER + fileName, expiredAt
+        ));
+    }
+
+    // 정리 시각이 지난 대기 파일 이름 - 업로드 확인과 동시에 처리되지 않도록 대기 목록에서 제거한 파일만 반환
+    public List<String> popExpiredPendingUploads(long now, int count) {
+        return redisDao.getSortedSetRangeByScore(PENDING_UPLOAD_KEY, now, count).stream()
+                .filter(member -> redisDao.removeSortedSetValue(PENDING_UPLOAD_KEY, member))
+                .map(member -> member.substring(member.indexOf(PENDING_UPLOAD_DELIMITER) + 1))
+                .toList();
+    }
+
+    private String getPendingUploadMember(Long userId, String fileName) {
+        return userId + PENDING_UPLOAD_DELIMITER + fileName;
+    }
+
+    // 여러 서버 중 한 곳에서만 작업을 실행하기 위한 잠금 - 작업이 비정상 종료되어도 expiration 후 해제
+    public boolean tryLock(String name, String owner, Duration expiration) {
+        return redisDao.setValuesIfAbsent(LOCK_KEY_PREFIX + name, owner, expiration);
+    }
+
+    public void unlock(String name, String owner) {
+        redisDao.deleteValuesIfEquals(LOCK_KEY_PREFIX + name, owner);
+    }
 }
@@ -0,0 +1,74 @@
+package dnd.diary.service.s3;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dnd.diary.domain.content.ImageDeletion;
+import dnd.diary.repository.content.ImageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 삭제 대기 파일 삭제
+ * - 짧은 트랜잭션에서 대기 파일 CHUNK_SIZE 개를 맡고(claim), 트랜잭션 밖에서 한 번의 DeleteObjectsRequest 로 삭제
+ * - 삭제된 파일만 대기 목록에서 제거하고, 실패한 파일은 CLAIM_EXPIRATION 이 지난 뒤 다시 시도
+ * - MAX_ATTEMPT_COUNT 번 시도해도 삭제되지 않은 파일은 테이블에 남겨둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDeletionProcessor {
+
+	public static final int CHUNK_SIZE = S3Uploader.DELETE_BATCH_SIZE;
+	private static final int MAX_ATTEMPT_COUNT = 5;
+	private static final Duration CLAIM_EXPIRATION = Duration.ofMinutes(5);
+
+	private final ImageDeletionRepository imageDeletionRepository;
+	private final S3Uploader s3Uploader;
+	private final TransactionTemplate transactionTemplate;
+
+	// 삭제 대기 파일을 최대 CHUNK_SIZE 개 삭제하고 삭제한 개수 반환
+	public int processPending() {
+		List<ImageDeletion> deletions = transactionTemplate.execute(status -> claim());
+		if (deletions == null || deletions.isEmpty()) {
+			return 0;
+		}
+
+		Set<String> failedFileNames;
+		try {
+			failedFileNames = s3Uploader.deleteObjects(deletions.stream().map(ImageDeletion::getFileName).toList());
+		} catch (RuntimeException e) {
+			log.warn("[S3 파일 삭제 실패] {}개 다음에 다시 삭제", deletions.size(), e);
+			return 0;
+		}
+
+		List<Long> deletedIds = deletions.stream()
+				.filter(deletion -> !failedFileNames.contains(deletion.getFileName()))
+				.map(ImageDeletion::getId)
+				.toList();
+		if (!deletedIds.isEmpty()) {
+			imageDeletionRepository.deleteAllByIdInBatch(deletedIds);
+		}
+		log.info("[S3 파일 삭제] 삭제 {}개, 실패 {}개", deletedIds.size(), deletions.size() - deletedIds.size());
+		return deletedIds.size();
+	}
+
+	// 여러 서버에서 동시에 실행되어도 같은 파일은 한 서버만 맡도록 잠금 후 claimedAt 표시
+	private List<ImageDeletion> claim() {
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		List<ImageDeletion> deletions = imageDeletionRepository.findClaimableForUpdate(
+				MAX_ATTEMPT_COUNT, now.minus(CLAIM_EXPIRATION), PageRequest.of(0, CHUNK_SIZE)
+		);
+		if (!deletions.isEmpty()) {
+			imageDeletionRepository.claim(deletions.stream().map(ImageDeletion::getId).toList(), now);
+		}
+		return deletions;
+	}
+}
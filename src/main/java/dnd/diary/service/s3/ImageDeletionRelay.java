@@ -0,0 +1,50 @@
+package dnd.diary.service.s3;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dnd.diary.service.RelayExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 삭제 대기 파일을 별도 스레드에서 삭제
+ * - 삭제 대기 파일을 저장한 트랜잭션 커밋 후 삭제 요청 (요청 응답 시간에서 S3 삭제 제외)
+ * - 삭제에 실패했거나 서버 재시작 등으로 남은 파일은 주기적으로 다시 삭제
+ */
+@Slf4j
+@Component
+public class ImageDeletionRelay {
+
+	private final ImageDeletionProcessor imageDeletionProcessor;
+	private final RelayExecutor executor = new RelayExecutor("image-deletion-relay", this::relay);
+
+	public ImageDeletionRelay(ImageDeletionProcessor imageDeletionProcessor) {
+		this.imageDeletionProcessor = imageDeletionProcessor;
+	}
+
+	public void requestRelay() {
+		executor.request();
+	}
+
+	@Scheduled(initialDelay = 60000, fixedDelay = 60000)
+	public void relayRemaining() {
+		requestRelay();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private void relay() {
+		try {
+			while (imageDeletionProcessor.processPending() == ImageDeletionProcessor.CHUNK_SIZE) {
+				// 남은 파일이 없거나 삭제에 실패할 때까지 반복
+			}
+		} catch (RuntimeException e) {
+			log.warn("[S3 파일 삭제 실패]", e);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package dnd.diary.service.s3;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 축소본 생성 (ImageIO)
+ * - 원본은 한 번만 디코딩하고, EXIF 회전 정보를 픽셀에 반영한 뒤 크기별로 축소
+ * - 디코딩 전에 헤더의 가로/세로 크기를 확인해 MAX_PIXELS 를 넘는 이미지는 디코딩하지 않음 (작은 파일로 큰 메모리를 쓰는 이미지 방지)
+ * - 축소본은 픽셀만 다시 인코딩하므로 EXIF(촬영 위치 등) 메타데이터가 포함되지 않음
+ */
+public class ImageResizer {
+
+	private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+	private static final int ORIENTATION_TAG = 0x0112;
+	private static final int DEFAULT_ORIENTATION = 1;
+	private static final long MAX_PIXELS = 50_000_000L;   // 약 8700 x 5800, 디코딩 시 RGB 기준 약 200MB
+
+	private ImageResizer() {
+	}
+
+	// 이미지가 아니거나 지원하지 않는 형식, MAX_PIXELS 를 넘는 이미지면 null
+	public static BufferedImage read(byte[] bytes) throws IOException {
+		try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+			if (!readers.hasNext()) {
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(inputStream, true, true);
+				if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+					return null;
+				}
+				return orient(reader.read(0), readExifOrientation(bytes));
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 비율을 유지해 maxWidth 이하로 축소 (확대하지 않음)
+	public static BufferedImage resize(BufferedImage source, int maxWidth) {
+		if (source.getWidth() <= maxWidth) {
+			return source;
+		}
+		int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * maxWidth / source.getWidth()));
+
+		// 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 조정
+		BufferedImage current = source;
+		while (current.getWidth() / 2 >= maxWidth) {
+			current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2), new AffineTransform());
+		}
+		if (current.getWidth() == maxWidth) {
+			return current;
+		}
+		return draw(current, maxWidth, targetHeight, new AffineTransform());
+	}
+
+	public static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(quality);
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+
+	// JPEG APP1(Exif) 세그먼트의 IFD0 에서 Orientation 값 조회 - 없으면 1 (회전 없음)
+	static int readExifOrientation(byte[] bytes) {
+		if (bytes.length < 4 || (bytes[0] & 0xFF) != 0xFF || (bytes[1] & 0xFF) != 0xD8) {
+			return DEFAULT_ORIENTATION;
+		}
+
+		int offset = 2;
+		while (offset + 4 <= bytes.length && (bytes[offset] & 0xFF) == 0xFF) {
+			int marker = bytes[offset + 1] & 0xFF;
+			int length = readShort(bytes, offset + 2, false);
+			if (marker == 0xDA) {
+				break;   // 이미지 데이터 시작 (SOS) 이후에는 메타데이터 없음
+			}
+			if (marker == 0xE1 && startsWith(bytes, offset + 4, EXIF_HEADER)) {
+				return readTiffOrientation(bytes, offset + 4 + EXIF_HEADER.length, Math.min(bytes.length, offset + 2 + length));
+			}
+			offset += 2 + length;
+		}
+		return DEFAULT_ORIENTATION;
+	}
+
+	private static int readTiffOrientation(byte[] bytes, int tiffStart, int end) {
+		if (tiffStart + 8 > end) {
+			return DEFAULT_ORIENTATION;
+		}
+		boolean littleEndian = bytes[tiffStart] == 'I';
+		int ifdOffset = tiffStart + readInt(bytes, tiffStart + 4, littleEndian);
+		if (ifdOffset < tiffStart || ifdOffset + 2 > end) {
+			return DEFAULT_ORIENTATION;
+		}
+
+		int entryCount = readShort(bytes, ifdOffset, littleEndian);
+		for (int i = 0; i < entryCount; i++) {
+			int entry = ifdOffset + 2 + i * 12;
+			if (entry + 12 > end) {
+				break;
+			}
+			if (readShort(bytes, entry, littleEndian) == ORIENTATION_TAG) {
+				int orientation = readShort(bytes, entry + 8, littleEndian);
+				return orientation >= 1 && orientation <= 8 ? orientation : DEFAULT_ORIENTATION;
+			}
+		}
+		return DEFAULT_ORIENTATION;
+	}
+
+	// EXIF Orientation 을 픽셀에 반영 (1 ~ 8), 투명 배경은 흰색으로 채운 RGB 이미지로 변환
+	// 회전이 없는 RGB 이미지 (대부분의 JPEG) 는 복사하지 않고 그대로 사용
+	private static BufferedImage orient(BufferedImage image, int orientation) {
+		if (orientation == DEFAULT_ORIENTATION
+				&& (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR)) {
+			return image;
+		}
+		int width = image.getWidth();
+		int height = image.getHeight();
+		AffineTransform transform = new AffineTransform();
+		switch (orientation) {
+			case 2 -> { transform.scale(-1, 1); transform.translate(-width, 0); }
+			case 3 -> { transform.translate(width, height); transform.quadrantRotate(2); }
+			case 4 -> { transform.scale(1, -1); transform.translate(0, -height); }
+			case 5 -> { transform.quadrantRotate(1); transform.scale(1, -1); }
+			case 6 -> { transform.translate(height, 0); transform.quadrantRotate(1); }
+			case 7 -> { transform.translate(height, width); transform.quadrantRotate(3); transform.scale(1, -1); }
+			case 8 -> { transform.translate(0, width); transform.quadrantRotate(3); }
+			default -> { }
+		}
+
+		boolean swapSize = orientation >= 5;
+		return draw(image, swapSize ? height : width, swapSize ? width : height, transform);
+	}
+
+	private static BufferedImage draw(BufferedImage source, int width, int height, AffineTransform transform) {
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			if (transform.isIdentity()) {
+				graphics.drawImage(source, 0, 0, width, height, null);   // 크기 조정
+			} else {
+				graphics.drawImage(source, transform, null);   // 회전/반전
+			}
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private static boolean startsWith(byte[] bytes, int offset, byte[] prefix) {
+		if (offset + prefix.length > bytes.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (bytes[offset + i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+		int first = bytes[offset] & 0xFF;
+		int second = bytes[offset + 1] & 0xFF;
+		return littleEndian ? (second << 8) | first : (first << 8) | second;
+	}
+
+	private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+		int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+		int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+		return (high << 16) | low;
+	}
+}
@@ -0,0 +1,174 @@
+package dnd.diary.service.s3;
+
+import static dnd.diary.enumeration.Result.*;
+
+import java.io.IOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import dnd.diary.domain.content.ImageDeletion;
+import dnd.diary.domain.content.StoredImage;
+import dnd.diary.exception.CustomException;
+import dnd.diary.repository.content.ImageDeletionRepository;
+import dnd.diary.repository.content.StoredImageRepository;
+import dnd.diary.service.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 이미지 중복 제거 저장소
+ * - 업로드 전에 파일 내용의 SHA-256 을 계산해 이미 저장된 이미지면 S3 업로드 없이 기존 파일을 참조
+ * - StoredImage.referenceCount 로 파일을 사용하는 ContentImage 수를 관리하고, 마지막 참조가 사라질 때만 S3 파일 삭제
+ * - S3 업로드 기록이 없는 파일 (중복 제거 이전에 저장된 파일, 직접 업로드 파일) 은 참조가 하나뿐이므로 바로 삭제
+ * - 삭제할 파일은 ImageDeletion 에 저장하고 커밋 후 ImageDeletionRelay 가 모아서 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageStore {
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final int HASH_BUFFER_SIZE = 8192;
+
+	private final S3Uploader s3Uploader;
+	private final StoredImageRepository storedImageRepository;
+	private final ImageDeletionRepository imageDeletionRepository;
+	private final ImageDeletionRelay imageDeletionRelay;
+
+	public static String mediumFileName(String fileName) {
+		return "medium/" + baseName(fileName) + ".jpg";
+	}
+
+	public static String thumbnailFileName(String fileName) {
+		return "thumbnail/" + baseName(fileName) + ".jpg";
+	}
+
+	// 요청 순서대로 저장 결과 반환 - DB 트랜잭션 밖에서 호출
+	public List<S3Uploader.UploadedFile> storeAll(List<MultipartFile> files) {
+		List<String> hashes = files.stream().map(this::hash).toList();
+
+		// 같은 요청 안의 같은 이미지는 한 번만 처리
+		Map<String, MultipartFile> uniqueFiles = new LinkedHashMap<>();
+		for (int i = 0; i < files.size(); i++) {
+			uniqueFiles.putIfAbsent(hashes.get(i), files.get(i));
+		}
+
+		List<String> acquiredFileNames = new ArrayList<>();
+		try {
+			Map<String, S3Uploader.UploadedFile> storedFiles = new LinkedHashMap<>();
+			List<String> newHashes = new ArrayList<>();
+			uniqueFiles.forEach((hash, file) -> acquire(hash).ifPresentOrElse(
+					storedFile -> {
+						acquiredFileNames.add(storedFile.getFileName());
+						storedFiles.put(hash, storedFile);
+					},
+					() -> newHashes.add(hash)
+			));
+
+			if (!newHashes.isEmpty()) {
+				List<S3Uploader.UploadedFile> uploadedFiles = s3Uploader.uploadAll(
+						newHashes.stream().map(uniqueFiles::get).toList()
+				);
+				for (int i = 0; i < newHashes.size(); i++) {
+					S3Uploader.UploadedFile storedFile = register(newHashes.get(i), uploadedFiles.get(i));
+					acquiredFileNames.add(storedFile.getFileName());
+					storedFiles.put(newHashes.get(i), storedFile);
+				}
+			}
+
+			// 중복된 이미지는 ContentImage 수만큼 참조 추가
+			for (int i = 0; i < files.size(); i++) {
+				if (uniqueFiles.get(hashes.get(i)) != files.get(i)) {
+					storedImageRepository.increaseReferenceCount(hashes.get(i));
+					acquiredFileNames.add(storedFiles.get(hashes.get(i)).getFileName());
+				}
+			}
+
+			return hashes.stream().map(storedFiles::get).toList();
+		} catch (RuntimeException e) {
+			release(acquiredFileNames);
+			throw e;
+		}
+	}
+
+	/**
+	 * 참조 해제 - 더 이상 사용하지 않는 파일 이름 반환
+	 * 게시물 트랜잭션 안에서 호출하면 참조 해제와 삭제 대기 파일 저장이 함께 커밋되고, 커밋 후 원본과 축소본 삭제
+	 */
+	public List<String> release(List<String> fileNames) {
+		List<String> unreferencedFileNames = new ArrayList<>();
+		for (String fileName : fileNames) {
+			if (storedImageRepository.decreaseReferenceCount(fileName) == 0
+					|| storedImageRepository.deleteUnreferenced(fileName) > 0) {
+				unreferencedFileNames.add(fileName);
+			}
+		}
+		if (!unreferencedFileNames.isEmpty()) {
+			enqueueDeletion(unreferencedFileNames);
+		}
+		return unreferencedFileNames;
+	}
+
+	private void enqueueDeletion(List<String> fileNames) {
+		List<ImageDeletion> deletions = new ArrayList<>();
+		for (String fileName : fileNames) {
+			deletions.add(ImageDeletion.toEntity(fileName));
+			deletions.add(ImageDeletion.toEntity(mediumFileName(fileName)));
+			deletions.add(ImageDeletion.toEntity(thumbnailFileName(fileName)));
+		}
+		imageDeletionRepository.saveAll(deletions);
+		TransactionUtil.afterCommit(imageDeletionRelay::requestRelay);
+	}
+
+	// 이미 저장된 이미지면 참조를 추가하고 기존 파일 반환
+	private Optional<S3Uploader.UploadedFile> acquire(String hash) {
+		if (storedImageRepository.increaseReferenceCount(hash) == 0) {
+			return Optional.empty();
+		}
+		return storedImageRepository.findByHash(hash)
+				.map(storedImage -> toUploadedFile(storedImage.getFileName()));
+	}
+
+	private S3Uploader.UploadedFile register(String hash, S3Uploader.UploadedFile uploadedFile) {
+		try {
+			storedImageRepository.saveAndFlush(StoredImage.toEntity(hash, uploadedFile.getFileName()));
+			return uploadedFile;
+		} catch (DataIntegrityViolationException e) {
+			// 같은 이미지가 동시에 업로드된 경우 - 먼저 저장된 파일을 사용하고 방금 올린 파일은 삭제
+			s3Uploader.deleteAll(List.of(uploadedFile));
+			return acquire(hash).orElseThrow(() -> new CustomException(FAIL_IMAGE_UPLOAD));
+		}
+	}
+
+	private S3Uploader.UploadedFile toUploadedFile(String fileName) {
+		return new S3Uploader.UploadedFile(fileName, s3Uploader.getUrl(fileName));
+	}
+
+	// multipart 는 이미 임시 파일/메모리에 저장되어 있으므로 S3 업로드 전에 한 번 더 읽어 해시 계산
+	private String hash(MultipartFile file) {
+		try (DigestInputStream inputStream = new DigestInputStream(file.getInputStream(), MessageDigest.getInstance(HASH_ALGORITHM))) {
+			byte[] buffer = new byte[HASH_BUFFER_SIZE];
+			while (inputStream.read(buffer) != -1) {
+				// 읽는 동안 해시 계산
+			}
+			return HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new CustomException(FAIL_IMAGE_UPLOAD);
+		}
+	}
+
+	private static String baseName(String fileName) {
+		return fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf(".")) : fileName;
+	}
+}
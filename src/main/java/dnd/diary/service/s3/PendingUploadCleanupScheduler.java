@@ -0,0 +1,49 @@
+package dnd.diary.service.s3;
+
+import dnd.diary.service.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PendingUploadCleanupScheduler {
+
+    private static final String PENDING_UPLOAD_CLEANUP_LOCK = "pending-upload-cleanup";
+    private static final Duration PENDING_UPLOAD_CLEANUP_LOCK_EXPIRATION = Duration.ofMinutes(10);
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCH_COUNT = 20;
+
+    private final S3Service s3Service;
+    private final RedisService redisService;
+
+    // 발급 후 확인되지 않은 직접 업로드 파일 삭제 - 한 번에 최대 BATCH_SIZE * MAX_BATCH_COUNT 개, 남은 파일은 다음 실행에서 처리
+    @Scheduled(initialDelay = 60000, fixedDelay = 600000)
+    public void deleteExpiredUploads() {
+        String owner = UUID.randomUUID().toString();
+        if (!redisService.tryLock(PENDING_UPLOAD_CLEANUP_LOCK, owner, PENDING_UPLOAD_CLEANUP_LOCK_EXPIRATION)) {
+            return;
+        }
+
+        try {
+            int deletedCount = 0;
+            for (int batch = 0; batch < MAX_BATCH_COUNT; batch++) {
+                int count = s3Service.deleteExpiredUploads(BATCH_SIZE);
+                deletedCount += count;
+                if (count < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (deletedCount > 0) {
+                log.info("[미확인 업로드 파일 삭제] {}건", deletedCount);
+            }
+        } finally {
+            redisService.unlock(PENDING_UPLOAD_CLEANUP_LOCK, owner);
+        }
+    }
+}
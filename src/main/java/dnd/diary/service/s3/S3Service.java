@@ -4,14 +4,14 @@ import static dnd.diary.enumeration.Result.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 
-import dnd.diary.domain.content.Content;
-import dnd.diary.domain.content.ContentImage;
-import dnd.diary.repository.content.ContentImageRepository;
-import dnd.diary.repository.content.ContentRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -25,17 +25,31 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 
 import dnd.diary.exception.CustomException;
+import dnd.diary.request.controller.common.UploadSlotRequest;
+import dnd.diary.response.common.UploadSlotResponse;
+import dnd.diary.service.redis.RedisService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+	private static final int UPLOAD_SLOT_MAX_COUNT = 10;
+	private static final Duration UPLOAD_URL_EXPIRATION = Duration.ofMinutes(10);
+	private static final Duration PENDING_UPLOAD_EXPIRATION = Duration.ofHours(1);   // 업로드 후 확인까지 기다리는 시간
+	private static final long UPLOAD_MAX_SIZE = 20 * 1024 * 1024L;
+	private static final String IMAGE_CONTENT_TYPE_PREFIX = "image/";
+	private static final String UPLOAD_PATH = "upload/";   // 직접 업로드 경로 - 공개되지 않음
+
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
-	private final ContentImageRepository contentImageRepository;
 
 	private final AmazonS3 amazonS3;
+	private final S3Uploader s3Uploader;
+	private final ImageStore imageStore;
+	private final RedisService redisService;
 
 	public String saveProfileImage(MultipartFile file) {
 		String fileName = createFileName(file.getOriginalFilename());
@@ -54,98 +68,163 @@ public class S3Service {
 	}
 
 	public List<String> uploadImageList(List<MultipartFile> multipartFile) {
+		return s3Uploader.uploadAll(multipartFile).stream()
+				.map(S3Uploader.UploadedFile::getFileUrl)
+				.toList();
+	}
 
-		List<String> fileUrlList = new ArrayList<>();
-
-		multipartFile.forEach(file -> {
-			String fileName = createFileName(file.getOriginalFilename());
-			ObjectMetadata objectMetadata = new ObjectMetadata();
-			objectMetadata.setContentLength(file.getSize());
-			objectMetadata.setContentType(file.getContentType());
+	public String createFileName(String fileName) {
+		return s3Uploader.createFileName(fileName);
+	}
 
-			try (InputStream inputStream = file.getInputStream()) {
-				amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-					.withCannedAcl(CannedAccessControlList.PublicRead));
-				String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-				fileUrlList.add(fileUrl);
-			} catch (IOException e) {
-				throw new CustomException(FAIL_IMAGE_UPLOAD);
-			}
+	public String uploadImage(MultipartFile multipartFile) {
+		return s3Uploader.upload(multipartFile).getFileUrl();
+	}
 
-		});
+	// 파일 확장자 전달
+	public String getFileExtension(String fileName) {
+		return s3Uploader.getFileExtension(fileName);
+	}
 
-		return fileUrlList;
+	public void remove(String fileUrl) throws Exception {
+		String fileName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+		amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
 	}
 
-	public String createFileName(String fileName) {
-		// 랜덤으로 파일 이름 생성
-		return UUID.randomUUID().toString().concat(getFileExtension(fileName));
+	// 게시물 이미지 업로드 - DB 트랜잭션 밖에서 호출 (업로드 동안 DB 커넥션을 점유하지 않도록), 이미 저장된 이미지는 재사용
+	public List<S3Uploader.UploadedFile> uploadFiles(List<MultipartFile> multipartFile) {
+		return imageStore.storeAll(multipartFile);
 	}
 
-	public String uploadImage(MultipartFile multipartFile) {
+	// 게시물 저장에 실패한 경우 - 업로드한 이미지의 참조를 해제하고 더 이상 사용하지 않는 파일 삭제
+	public void deleteUploadedFiles(List<S3Uploader.UploadedFile> uploadedFiles) {
+		releaseImageFiles(uploadedFiles.stream().map(S3Uploader.UploadedFile::getFileName).toList());
+	}
 
-		String fileName = createFileName(multipartFile.getOriginalFilename());
-		ObjectMetadata objectMetadata = new ObjectMetadata();
-		objectMetadata.setContentLength(multipartFile.getSize());
-		objectMetadata.setContentType(multipartFile.getContentType());
+	// 게시물 트랜잭션 안에서 이미지 참조 해제 - 더 이상 사용하지 않는 파일은 커밋 후 일괄 삭제
+	public void releaseImageFiles(List<String> fileNames) {
+		imageStore.release(fileNames);
+	}
 
-		String fileUrl = "";
-		try (InputStream inputStream = multipartFile.getInputStream()) {
-			amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-					.withCannedAcl(CannedAccessControlList.PublicRead));
-			fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-		} catch (IOException e) {
-			throw new CustomException(FAIL_IMAGE_UPLOAD);
+	/**
+	 * 직접 업로드 - 클라이언트가 발급받은 URL 로 S3 의 업로드 경로 (upload/) 에 PUT 한 뒤 fileName 으로 업로드 확인
+	 * 업로드 경로의 파일은 공개되지 않고, 확인할 때 크기/형식을 검사한 파일만 공개 경로로 복사
+	 * - 업로드 URL 이 만료되기 전이라도 공개된 파일은 다시 덮어쓸 수 없음
+	 * 확인되지 않은 파일은 PendingUploadCleanupScheduler 가 삭제
+	 */
+	public List<UploadSlotResponse> createUploadSlots(Long userId, List<UploadSlotRequest> requests) {
+		if (requests.size() > UPLOAD_SLOT_MAX_COUNT) {
+			throw new CustomException(EXCEED_UPLOAD_FILE_COUNT);
 		}
-
-		return fileUrl;
+		requests.forEach(request -> validateContentType(request.getContentType()));
+
+		long now = System.currentTimeMillis();
+		Date uploadUrlExpiration = new Date(now + UPLOAD_URL_EXPIRATION.toMillis());
+		List<UploadSlotResponse> uploadSlots = requests.stream()
+				.map(request -> {
+					String fileName = s3Uploader.createFileName(request.getFileName());
+					String uploadFileName = UPLOAD_PATH + fileName;
+					return UploadSlotResponse.builder()
+							.fileName(uploadFileName)
+							.uploadUrl(s3Uploader.createUploadUrl(uploadFileName, request.getContentType(), uploadUrlExpiration).toString())
+							.fileUrl(s3Uploader.getUrl(fileName))
+							.expiredAt(LocalDateTime.ofInstant(uploadUrlExpiration.toInstant(), ZoneId.of("Asia/Seoul")))
+							.build();
+				})
+				.toList();
+
+		redisService.addPendingUploads(
+				userId, uploadSlots.stream().map(UploadSlotResponse::getFileName).toList(),
+				now + PENDING_UPLOAD_EXPIRATION.toMillis()
+		);
+		return uploadSlots;
 	}
 
-	// 파일 확장자 전달
-	public String getFileExtension(String fileName) {
+	/**
+	 * 업로드 확인 - 공개 경로로 복사한 파일 반환, 하나라도 확인에 실패하면 복사한 파일 모두 삭제
+	 * 확인을 시도한 업로드 경로의 파일은 성공 여부와 관계없이 삭제하고, 업로드 URL 만료 후 한 번 더 삭제 (만료 전에 다시 업로드된 경우)
+	 */
+	public List<S3Uploader.UploadedFile> confirmUploads(Long userId, List<String> fileNames) {
+		List<String> claimedFileNames = new ArrayList<>();
+		List<S3Uploader.UploadedFile> confirmedFiles = new ArrayList<>();
 		try {
-			return fileName.substring(fileName.lastIndexOf("."));
-		} catch (StringIndexOutOfBoundsException e) {
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일 (" + fileName + ") 입니다.");
+			for (String fileName : fileNames) {
+				if (!fileName.startsWith(UPLOAD_PATH) || !redisService.removePendingUpload(userId, fileName)) {
+					throw new CustomException(INVALID_UPLOAD_FILE);
+				}
+				claimedFileNames.add(fileName);
+				confirmedFiles.add(confirmUpload(fileName));
+			}
+		} catch (RuntimeException e) {
+			s3Uploader.deleteAll(confirmedFiles);
+			throw e;
+		} finally {
+			if (!claimedFileNames.isEmpty()) {
+				deleteUploadPathFiles(claimedFileNames);
+				redisService.addConfirmedUploads(claimedFileNames, System.currentTimeMillis() + UPLOAD_URL_EXPIRATION.toMillis());
+			}
 		}
+		return confirmedFiles;
 	}
 
-	public void remove(String fileUrl) throws Exception {
-		String fileName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
-		amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
+	// 업로드 경로의 파일을 검사한 뒤 공개 경로 (upload/ 를 뺀 이름) 로 복사
+	private S3Uploader.UploadedFile confirmUpload(String uploadFileName) {
+		ObjectMetadata objectMetadata = s3Uploader.getMetadata(uploadFileName);
+		if (objectMetadata == null) {
+			throw new CustomException(INVALID_UPLOAD_FILE);
+		}
+		if (objectMetadata.getContentLength() > UPLOAD_MAX_SIZE) {
+			throw new CustomException(NOT_SUPPORTED_UPLOAD_FILE);
+		}
+		validateContentType(objectMetadata.getContentType());
+
+		S3Uploader.UploadedFile confirmedFile = s3Uploader.copy(
+				uploadFileName, uploadFileName.substring(UPLOAD_PATH.length()), objectMetadata.getETag()
+		);
+		if (confirmedFile == null) {
+			// 검사한 뒤 다시 업로드된 파일
+			throw new CustomException(INVALID_UPLOAD_FILE);
+		}
+		return confirmedFile;
 	}
 
-	public List<ContentImage> uploadFiles(List<MultipartFile> multipartFile, Content content) {
-		List<ContentImage> contentImages = new ArrayList<>();
-
-		multipartFile.forEach(file -> {
-			String fileName = saveImage(file);
-			ContentImage contentSaveImage = contentImageRepository.save(
-					ContentImage.builder()
-							.content(content)
-							.imageName(fileName)
-							.imageUrl(amazonS3.getUrl(bucket, fileName).toString())
-							.build()
-			);
-			contentImages.add(contentSaveImage);
-		});
-		return contentImages;
+	// 업로드 경로의 파일 일괄 삭제 - 실패한 파일은 업로드 URL 만료 후 다시 삭제되므로 로그만 남김
+	private void deleteUploadPathFiles(List<String> uploadFileNames) {
+		try {
+			s3Uploader.deleteObjects(uploadFileNames);
+		} catch (RuntimeException e) {
+			log.warn("[S3 업로드 경로 파일 삭제 실패] {}개 다음에 다시 삭제", uploadFileNames.size(), e);
+		}
 	}
 
-	private String saveImage(MultipartFile file) {
-		String fileName = createFileName(file.getOriginalFilename());
-		ObjectMetadata objectMetadata = new ObjectMetadata();
-		objectMetadata.setContentLength(file.getSize());
-		objectMetadata.setContentType(file.getContentType());
+	/**
+	 * 확인되지 않은 채 만료된 파일 일괄 삭제 - 삭제한 파일 수 반환
+	 * 삭제에 실패한 파일은 UPLOAD_URL_EXPIRATION 후 다시 삭제하도록 대기 목록에 다시 추가 (업로드 확인에는 사용할 수 없음)
+	 */
+	public int deleteExpiredUploads(int count) {
+		List<String> expiredFileNames = redisService.popExpiredPendingUploads(System.currentTimeMillis(), count);
+		if (expiredFileNames.isEmpty()) {
+			return 0;
+		}
 
-		try (InputStream inputStream = file.getInputStream()) {
-			amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-					.withCannedAcl(CannedAccessControlList.PublicRead));
+		List<String> failedFileNames;
+		try {
+			Set<String> failed = s3Uploader.deleteObjects(expiredFileNames);
+			failedFileNames = expiredFileNames.stream().filter(failed::contains).toList();
+		} catch (RuntimeException e) {
+			log.warn("[S3 업로드 경로 파일 삭제 실패] {}개 다음에 다시 삭제", expiredFileNames.size(), e);
+			failedFileNames = expiredFileNames;
+		}
+		if (!failedFileNames.isEmpty()) {
+			redisService.addConfirmedUploads(failedFileNames, System.currentTimeMillis() + UPLOAD_URL_EXPIRATION.toMillis());
+		}
+		return expiredFileNames.size() - failedFileNames.size();
+	}
 
-		} catch (IOException e) {
-			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+	private void validateContentType(String contentType) {
+		if (contentType == null || !contentType.startsWith(IMAGE_CONTENT_TYPE_PREFIX)) {
+			throw new CustomException(NOT_SUPPORTED_UPLOAD_FILE);
 		}
-		return fileName;
 	}
 
 	public void deleteFile(String fileName) {
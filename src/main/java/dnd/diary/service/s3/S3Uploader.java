@@ -0,0 +1,277 @@
+package dnd.diary.service.s3;
+
+import static dnd.diary.enumeration.Result.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+import dnd.diary.exception.CustomException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 파일 S3 병렬 업로드
+ * - 제한된 스레드에서 동시에 업로드하고, 대기열이 가득 차면 요청 스레드에서 직접 업로드 (요청이 몰릴 때 업로드 속도 조절)
+ * - Content-Length 를 지정해 multipart 입력 스트림을 메모리에 올리지 않고 그대로 전송
+ * - 일부 파일 업로드 실패 시 이미 업로드된 파일을 삭제하고 실패 처리 (시간 초과 후 완료된 업로드도 완료 시점에 삭제)
+ */
+@Slf4j
+@Component
+public class S3Uploader {
+
+	private static final int UPLOAD_THREAD_COUNT = 8;
+	private static final int UPLOAD_QUEUE_CAPACITY = 64;
+	private static final Duration UPLOAD_TIMEOUT = Duration.ofSeconds(60);
+	public static final int DELETE_BATCH_SIZE = 1000;
+
+	private final AmazonS3 amazonS3;
+	private final String bucket;
+	private final ThreadPoolExecutor uploader;
+	private final Duration uploadTimeout;
+
+	@Autowired
+	public S3Uploader(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucket) {
+		this(amazonS3, bucket, UPLOAD_TIMEOUT);
+	}
+
+	S3Uploader(AmazonS3 amazonS3, String bucket, Duration uploadTimeout) {
+		this.amazonS3 = amazonS3;
+		this.bucket = bucket;
+		this.uploadTimeout = uploadTimeout;
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.uploader = new ThreadPoolExecutor(
+				UPLOAD_THREAD_COUNT, UPLOAD_THREAD_COUNT, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(UPLOAD_QUEUE_CAPACITY),
+				runnable -> {
+					Thread thread = new Thread(runnable, "s3-uploader-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.CallerRunsPolicy()
+		);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		uploader.shutdown();
+	}
+
+	// 요청 순서대로 업로드 결과 반환
+	public List<UploadedFile> uploadAll(List<MultipartFile> files) {
+		if (files.size() == 1) {
+			return List.of(upload(files.get(0)));
+		}
+
+		// 잘못된 파일 이름은 업로드 시작 전에 확인
+		List<String> fileNames = files.stream()
+				.map(file -> createFileName(file.getOriginalFilename()))
+				.toList();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		List<CompletableFuture<UploadedFile>> futures = new ArrayList<>();
+		for (int i = 0; i < files.size(); i++) {
+			MultipartFile file = files.get(i);
+			String fileName = fileNames.get(i);
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				// 다른 파일 업로드가 실패한 뒤에 시작되는 업로드는 건너뜀
+				if (cancelled.get()) {
+					throw new CancellationException();
+				}
+				return upload(file, fileName);
+			}, uploader));
+		}
+
+		// 모든 파일을 합쳐 uploadTimeout 까지 대기
+		long deadline = System.nanoTime() + uploadTimeout.toNanos();
+		List<UploadedFile> uploadedFiles = new ArrayList<>();
+		for (CompletableFuture<UploadedFile> future : futures) {
+			try {
+				uploadedFiles.add(future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+			} catch (ExecutionException | TimeoutException e) {
+				cancelled.set(true);
+				log.warn("[S3 업로드 실패]", e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancelled.set(true);
+			}
+		}
+
+		if (cancelled.get()) {
+			// 이미 완료된 업로드는 바로, 아직 진행 중인 업로드는 완료되는 시점에 삭제
+			futures.forEach(future -> future.whenComplete((uploadedFile, e) -> {
+				if (uploadedFile != null) {
+					deleteAll(List.of(uploadedFile));
+				}
+			}));
+			throw new CustomException(FAIL_IMAGE_UPLOAD);
+		}
+		return uploadedFiles;
+	}
+
+	public UploadedFile upload(MultipartFile file) {
+		return upload(file, createFileName(file.getOriginalFilename()));
+	}
+
+	private UploadedFile upload(MultipartFile file, String fileName) {
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(file.getSize());
+		objectMetadata.setContentType(file.getContentType());
+
+		try (InputStream inputStream = file.getInputStream()) {
+			amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+					.withCannedAcl(CannedAccessControlList.PublicRead));
+		} catch (IOException e) {
+			throw new CustomException(FAIL_IMAGE_UPLOAD);
+		}
+		return new UploadedFile(fileName, amazonS3.getUrl(bucket, fileName).toString());
+	}
+
+	// 서버에서 만든 파일 업로드 (이미지 축소본 등)
+	public UploadedFile upload(String fileName, byte[] bytes, String contentType) {
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(bytes.length);
+		objectMetadata.setContentType(contentType);
+
+		amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(bytes), objectMetadata)
+				.withCannedAcl(CannedAccessControlList.PublicRead));
+		return new UploadedFile(fileName, amazonS3.getUrl(bucket, fileName).toString());
+	}
+
+	public byte[] download(String fileName) throws IOException {
+		try (S3Object s3Object = amazonS3.getObject(bucket, fileName);
+			 InputStream inputStream = s3Object.getObjectContent()) {
+			return inputStream.readAllBytes();
+		}
+	}
+
+	// 클라이언트가 S3 에 직접 업로드할 수 있는 PUT URL - 업로드한 파일은 공개되지 않고, 확인 후 copy 로 공개 경로에 복사
+	public URL createUploadUrl(String fileName, String contentType, Date expiration) {
+		GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, fileName, HttpMethod.PUT)
+				.withExpiration(expiration)
+				.withContentType(contentType);
+		return amazonS3.generatePresignedUrl(request);
+	}
+
+	/**
+	 * S3 안에서 파일 복사 (공개 읽기)
+	 * 확인한 파일이 복사 전에 다시 업로드된 경우 (ETag 불일치) 복사하지 않고 null
+	 */
+	public UploadedFile copy(String sourceFileName, String fileName, String eTag) {
+		CopyObjectResult result = amazonS3.copyObject(new CopyObjectRequest(bucket, sourceFileName, bucket, fileName)
+				.withMatchingETagConstraint(eTag)
+				.withCannedAccessControlList(CannedAccessControlList.PublicRead));
+		return result == null ? null : new UploadedFile(fileName, getUrl(fileName));
+	}
+
+	// 업로드되지 않은 파일이면 null
+	public ObjectMetadata getMetadata(String fileName) {
+		try {
+			return amazonS3.getObjectMetadata(bucket, fileName);
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == 404) {
+				return null;
+			}
+			throw e;
+		}
+	}
+
+	public String getUrl(String fileName) {
+		return amazonS3.getUrl(bucket, fileName).toString();
+	}
+
+	// 업로드 후 DB 저장에 실패한 경우 등 업로드한 파일 정리
+	public void deleteAll(List<UploadedFile> uploadedFiles) {
+		for (UploadedFile uploadedFile : uploadedFiles) {
+			try {
+				amazonS3.deleteObject(new DeleteObjectRequest(bucket, uploadedFile.getFileName()));
+			} catch (RuntimeException e) {
+				log.warn("[S3 업로드 파일 정리 실패] fileName : {}", uploadedFile.getFileName(), e);
+			}
+		}
+	}
+
+	/**
+	 * 여러 파일을 한 번의 요청으로 삭제 (DeleteObjectsRequest, 요청당 최대 1000개) - 삭제에 실패한 파일 이름 반환
+	 * 요청 자체가 실패하면 예외 발생
+	 */
+	public Set<String> deleteObjects(List<String> fileNames) {
+		Set<String> failedFileNames = new HashSet<>();
+		for (int from = 0; from < fileNames.size(); from += DELETE_BATCH_SIZE) {
+			List<String> batch = fileNames.subList(from, Math.min(from + DELETE_BATCH_SIZE, fileNames.size()));
+			try {
+				amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+						.withKeys(batch.toArray(String[]::new))
+						.withQuiet(true));   // 실패한 파일만 응답
+			} catch (MultiObjectDeleteException e) {
+				e.getErrors().forEach(error -> {
+					log.warn("[S3 파일 삭제 실패] fileName : {}, code : {}", error.getKey(), error.getCode());
+					failedFileNames.add(error.getKey());
+				});
+			}
+		}
+		return failedFileNames;
+	}
+
+	public String createFileName(String fileName) {
+		// 랜덤으로 파일 이름 생성
+		return UUID.randomUUID().toString().concat(getFileExtension(fileName));
+	}
+
+	// 파일 확장자 전달
+	public String getFileExtension(String fileName) {
+		try {
+			return fileName.substring(fileName.lastIndexOf("."));
+		} catch (StringIndexOutOfBoundsException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일 (" + fileName + ") 입니다.");
+		}
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class UploadedFile {
+		private final String fileName;
+		private final String fileUrl;
+	}
+}
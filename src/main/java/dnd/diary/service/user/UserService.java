@@ -245,6 +245,6 @@ public class UserService {
     }
 
     private Integer getViews(Content content) {
-        return redisService.getValuesInteger(content.getId());
+        return redisService.getViews(content.getId(), content.getViews());
     }
 }
\ No newline at end of file
@@ -0,0 +1,2 @@
+-- 그룹 피드 커서 조회 (createdAt, id) 용 복합 인덱스 - Content @Table 인덱스와 동일
+CREATE INDEX idx_content_group_created ON content (group_id, deleted_yn, created_at, content_id);
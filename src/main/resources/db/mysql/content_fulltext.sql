@@ -0,0 +1,6 @@
+-- 게시물 검색용 FULLTEXT INDEX (ngram parser)
+-- 적용 후 content.search.full-text.enabled=true 로 MATCH ... AGAINST 검색 활성화
+-- 한글 검색을 위해 ngram parser 사용, 토큰 길이는 MySQL 기본값(ngram_token_size=2)
+-- 게시물 작성/수정/삭제 시 인덱스는 MySQL 이 행 단위로 갱신하므로 별도 색인 작업 없음
+
+ALTER TABLE content ADD FULLTEXT INDEX idx_content_fulltext (content) WITH PARSER ngram;
@@ -0,0 +1,2 @@
+-- 미션 상태 일괄 변경(MissionScheduler) 용 인덱스 - Mission @Table 인덱스와 동일
+CREATE INDEX idx_mission_status_date ON mission (mission_status, mission_start_date, mission_end_date);
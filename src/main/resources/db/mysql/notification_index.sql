@@ -0,0 +1,2 @@
+-- 알림 목록 조회(최신순), 읽지 않은 알림 개수 COUNT 용 인덱스 - Notification @Table 인덱스와 동일
+CREATE INDEX idx_notification_user_read ON notification (user_id, read_yn, created_at);
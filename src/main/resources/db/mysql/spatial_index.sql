@@ -0,0 +1,22 @@
+-- 지도 범위 검색용 SPATIAL INDEX
+-- 적용 후 map.spatial-search.enabled=true 로 MBRContains 검색 활성화
+-- SPATIAL INDEX 는 NOT NULL 컬럼에만 생성 가능 -> 위치가 없는 게시물은 POINT(0 0) 으로 저장 (GeometryUtil.createPoint)
+
+-- 게시물
+UPDATE content
+SET point = ST_GeomFromText(CONCAT('POINT(', IFNULL(longitude, 0), ' ', IFNULL(latitude, 0), ')'))
+WHERE point IS NULL;
+
+ALTER TABLE content MODIFY point POINT NOT NULL SRID 0;
+CREATE SPATIAL INDEX idx_content_point ON content (point);
+
+-- 미션
+UPDATE mission
+SET point = ST_GeomFromText(CONCAT('POINT(', longitude, ' ', latitude, ')'))
+WHERE point IS NULL;
+
+ALTER TABLE mission MODIFY point POINT NOT NULL SRID 0;
+CREATE SPATIAL INDEX idx_mission_point ON mission (point);
+
+-- 지도 검색 시 사용자 할당 미션 조인
+CREATE INDEX idx_user_assign_mission_user ON user_assign_mission (user_id, is_complete, mission_id);
@@ -5,6 +5,7 @@ import dnd.diary.config.Jwt.JwtAccessDeniedHandler;
 import dnd.diary.config.Jwt.JwtAuthenticationEntryPoint;
 import dnd.diary.config.Jwt.TokenProvider;
 import dnd.diary.config.redis.RedisDao;
+import dnd.diary.controller.common.S3Controller;
 import dnd.diary.controller.content.*;
 import dnd.diary.controller.user.UserController;
 import dnd.diary.service.content.CommentLikeService;
@@ -12,6 +13,7 @@ import dnd.diary.service.content.CommentService;
 import dnd.diary.service.content.ContentService;
 import dnd.diary.service.content.EmotionService;
 import dnd.diary.service.mission.MissionService;
+import dnd.diary.service.s3.S3Service;
 import dnd.diary.service.user.UserService;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,7 +29,8 @@ import org.springframework.web.filter.CorsFilter;
         CommentLikeController.class,
         CommentController.class,
         EmotionController.class,
-        BookmarkController.class
+        BookmarkController.class,
+        S3Controller.class
 })
 @AutoConfigureMockMvc(addFilters = false)
 public abstract class ControllerTestSupport {
@@ -59,6 +62,9 @@ public abstract class ControllerTestSupport {
     @MockBean
     protected CommentLikeService commentLikeService;
 
+    @MockBean
+    protected S3Service s3Service;
+
     @MockBean
     private RedisDao redisDao;
 
@@ -0,0 +1,52 @@
+package dnd.diary.controller.common;
+
+import dnd.diary.controller.ControllerTestSupport;
+import dnd.diary.request.controller.common.UploadSlotRequest;
+import dnd.diary.request.controller.common.UploadSlotsRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class S3ControllerTest extends ControllerTestSupport {
+
+    @DisplayName("직접 업로드 URL 발급 API")
+    @Test
+    void createUploadSlots() throws Exception {
+        // given
+        UploadSlotsRequest request = new UploadSlotsRequest(List.of(new UploadSlotRequest("image.png", "image/png")));
+
+        // when // then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/s3/upload-slots")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("직접 업로드 URL 발급 시 파일 이름은 필수이다.")
+    @Test
+    void createUploadSlotsWithoutFileName() throws Exception {
+        // given
+        UploadSlotsRequest request = new UploadSlotsRequest(List.of(new UploadSlotRequest(" ", "image/png")));
+
+        // when // then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/s3/upload-slots")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(-1))
+                .andExpect(jsonPath("$.message").value("파일 이름은 필수입니다."));
+    }
+}
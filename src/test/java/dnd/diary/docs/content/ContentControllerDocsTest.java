@@ -141,6 +141,10 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                                         .description("피드 이미지 이름"),
                                 fieldWithPath("data.collect[].imageUrl").type(JsonFieldType.STRING)
                                         .description("피드 이미지 URL"),
+                                fieldWithPath("data.collect[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.collect[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.collect[].contentId").type(JsonFieldType.NUMBER)
                                         .description("이미지가 삽입된 피드 ID")
                         )
@@ -234,6 +238,10 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                                         .description("피드 이미지 이름"),
                                 fieldWithPath("data.collect[].imageUrl").type(JsonFieldType.STRING)
                                         .description("피드 이미지 URL"),
+                                fieldWithPath("data.collect[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.collect[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.collect[].contentId").type(JsonFieldType.NUMBER)
                                         .description("이미지가 삽입된 피드 ID")
                         )
@@ -339,6 +347,10 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                                         .description("피드 이미지 이름"),
                                 fieldWithPath("data.collect[].imageUrl").type(JsonFieldType.STRING)
                                         .description("피드 이미지 URL"),
+                                fieldWithPath("data.collect[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.collect[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.collect[].contentId").type(JsonFieldType.NUMBER)
                                         .description("이미지가 삽입된 피드 ID")
                         )
@@ -508,6 +520,10 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                                         .description("피드 이미지 이름"),
                                 fieldWithPath("data.content[].imageDetails[].imageUrl").type(JsonFieldType.STRING)
                                         .description("피드 이미지 URL"),
+                                fieldWithPath("data.content[].imageDetails[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.content[].imageDetails[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.content[].imageDetails[].contentId").type(JsonFieldType.NUMBER)
                                         .description("이미지가 삽입된 피드 ID"),
                                 fieldWithPath("data.content[].emotionDetails[]").type(JsonFieldType.ARRAY)
@@ -688,6 +704,10 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                                         .description("피드 이미지 이름"),
                                 fieldWithPath("data.content[].imageDetails[].imageUrl").type(JsonFieldType.STRING)
                                         .description("피드 이미지 URL"),
+                                fieldWithPath("data.content[].imageDetails[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.content[].imageDetails[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.content[].imageDetails[].contentId").type(JsonFieldType.NUMBER)
                                         .description("이미지가 삽입된 피드 ID"),
                                 fieldWithPath("data.content[].emotionDetails[]").type(JsonFieldType.ARRAY)
@@ -845,6 +865,10 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                                         .description("피드 이미지 이름"),
                                 fieldWithPath("data.content[].collect[].imageUrl").type(JsonFieldType.STRING)
                                         .description("피드 이미지 URL"),
+                                fieldWithPath("data.content[].collect[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.content[].collect[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.content[].collect[].contentId").type(JsonFieldType.NUMBER)
                                         .description("이미지가 삽입된 피드 ID"),
                                 fieldWithPath("data.pageable.sort.empty").type(JsonFieldType.BOOLEAN)
@@ -1069,6 +1093,8 @@ public class ContentControllerDocsTest extends RestDocsSupport {
                 .contentId(1L)
                 .imageName("테스트 이미지 이름")
                 .imageUrl("테스트 이미지 URL")
+                .thumbnailUrl("테스트 축소 이미지 URL")
+                .mediumUrl("테스트 축소 이미지 URL")
                 .build()
         );
     }
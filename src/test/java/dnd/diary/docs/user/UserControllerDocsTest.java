@@ -451,6 +451,10 @@ class UserControllerDocsTest extends RestDocsSupport {
                                         .description("북마크한 피드의 이미지 이름"),
                                 fieldWithPath("data.content[].images[].imageUrl").type(JsonFieldType.STRING)
                                         .description("북마크한 피드의 이미지 URL"),
+                                fieldWithPath("data.content[].images[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("북마크한 피드의 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.content[].images[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("북마크한 피드의 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.content[].images[].contentId").type(JsonFieldType.NUMBER)
                                         .description("북마크한 피드 ID / Long"),
                                 fieldWithPath("data.pageable.sort.empty").type(JsonFieldType.BOOLEAN)
@@ -559,6 +563,10 @@ class UserControllerDocsTest extends RestDocsSupport {
                                         .description("내가 작성한 피드의 이미지 이름"),
                                 fieldWithPath("data.content[].images[].imageUrl").type(JsonFieldType.STRING)
                                         .description("내가 작성한 피드의 이미지 URL"),
+                                fieldWithPath("data.content[].images[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("내가 작성한 피드의 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.content[].images[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("내가 작성한 피드의 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.content[].images[].contentId").type(JsonFieldType.NUMBER)
                                         .description("내가 작성한 피드 ID / Long"),
                                 fieldWithPath("data.pageable.sort.empty").type(JsonFieldType.BOOLEAN)
@@ -667,6 +675,10 @@ class UserControllerDocsTest extends RestDocsSupport {
                                         .description("내가 작성한 댓글의 피드 이미지 이름"),
                                 fieldWithPath("data.content[].images[].imageUrl").type(JsonFieldType.STRING)
                                         .description("내가 작성한 댓글의 피드 이미지 URL"),
+                                fieldWithPath("data.content[].images[].thumbnailUrl").type(JsonFieldType.STRING)
+                                        .description("내가 작성한 댓글의 피드 이미지 목록용 축소 URL"),
+                                fieldWithPath("data.content[].images[].mediumUrl").type(JsonFieldType.STRING)
+                                        .description("내가 작성한 댓글의 피드 이미지 상세용 축소 URL"),
                                 fieldWithPath("data.content[].images[].contentId").type(JsonFieldType.NUMBER)
                                         .description("내가 작성한 댓글의 피드 ID / Long"),
                                 fieldWithPath("data.pageable.sort.empty").type(JsonFieldType.BOOLEAN)
@@ -750,6 +762,8 @@ class UserControllerDocsTest extends RestDocsSupport {
                 .contentId(1L)
                 .imageName("테스트 이미지 이름")
                 .imageUrl("테스트 이미지 URL")
+                .thumbnailUrl("테스트 축소 이미지 URL")
+                .mediumUrl("테스트 축소 이미지 URL")
                 .build()
         );
 
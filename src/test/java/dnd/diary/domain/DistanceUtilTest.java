@@ -0,0 +1,50 @@
+package dnd.diary.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DistanceUtilTest {
+
+    @DisplayName("위도 0.001도 차이는 약 111m 로 계산한다.")
+    @Test
+    void distanceShortRange() {
+        double distance = DistanceUtil.distance(37.5665, 126.9780, 37.5675, 126.9780);
+
+        assertThat(distance).isCloseTo(111.2, within(0.5));
+    }
+
+    @DisplayName("먼 거리도 계산할 수 있다. (서울 - 부산 약 325km)")
+    @Test
+    void distanceLongRange() {
+        double distance = DistanceUtil.distance(37.5665, 126.9780, 35.1796, 129.0756);
+
+        assertThat(distance).isCloseTo(325_000, within(2_000.0));
+    }
+
+    @DisplayName("같은 위치의 거리는 0 이다.")
+    @Test
+    void distanceSamePoint() {
+        assertThat(DistanceUtil.distance(37.5665, 126.9780, 37.5665, 126.9780)).isZero();
+    }
+
+    @DisplayName("기준 위치를 미리 계산해 두어도 거리 계산 결과는 같다.")
+    @Test
+    void distanceFromOrigin() {
+        DistanceUtil.Origin origin = DistanceUtil.from(37.5665, 126.9780);
+
+        assertThat(origin.distanceTo(37.5700, 126.9820))
+                .isEqualTo(DistanceUtil.distance(37.5665, 126.9780, 37.5700, 126.9820));
+    }
+
+    @DisplayName("반경 범위의 경계까지의 거리는 반경과 같다.")
+    @Test
+    void boundingBox() {
+        double[] boundingBox = DistanceUtil.boundingBox(37.5665, 126.9780, 200);
+
+        assertThat(DistanceUtil.distance(37.5665, 126.9780, boundingBox[2], 126.9780)).isCloseTo(200, within(0.1));
+        assertThat(DistanceUtil.distance(37.5665, 126.9780, 37.5665, boundingBox[3])).isCloseTo(200, within(0.1));
+    }
+}
@@ -0,0 +1,56 @@
+package dnd.diary.domain.mission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MissionStatusResolverTest {
+
+    private final LocalDateTime missionStartDate = LocalDateTime.of(2023, 3, 1, 0, 0, 0);
+    private final LocalDateTime missionEndDate = LocalDateTime.of(2023, 3, 7, 23, 59, 59);
+
+    @DisplayName("미션 시작일 이전이면 시작 전, 종료일 이후면 종료, 그 사이면 진행 중 상태이다.")
+    @Test
+    void resolve() {
+        assertThat(MissionStatusResolver.resolve(missionStartDate, missionEndDate, missionStartDate.minusSeconds(1)))
+                .isEqualTo(MissionStatus.READY);
+        assertThat(MissionStatusResolver.resolve(missionStartDate, missionEndDate, missionStartDate))
+                .isEqualTo(MissionStatus.ACTIVE);
+        assertThat(MissionStatusResolver.resolve(missionStartDate, missionEndDate, missionEndDate))
+                .isEqualTo(MissionStatus.ACTIVE);
+        assertThat(MissionStatusResolver.resolve(missionStartDate, missionEndDate, missionEndDate.plusSeconds(1)))
+                .isEqualTo(MissionStatus.FINISH);
+    }
+
+    @DisplayName("미션 기간은 서울 기준 시작일 00:00:00 부터 종료일 23:59:59 까지이다.")
+    @Test
+    void resolveAtDayBoundary() {
+        // given - 3월 1일 하루짜리 미션
+        LocalDate missionDate = LocalDate.of(2023, 3, 1);
+        LocalDateTime startDate = MissionStatusResolver.missionStartDate(missionDate);
+        LocalDateTime endDate = MissionStatusResolver.missionEndDate(missionDate);
+
+        // when // then
+        assertThat(MissionStatusResolver.resolve(startDate, endDate, LocalDateTime.of(2023, 2, 28, 23, 59, 59)))
+                .isEqualTo(MissionStatus.READY);
+        assertThat(MissionStatusResolver.resolve(startDate, endDate, LocalDateTime.of(2023, 3, 1, 0, 0, 0)))
+                .isEqualTo(MissionStatus.ACTIVE);
+        assertThat(MissionStatusResolver.resolve(startDate, endDate, LocalDateTime.of(2023, 3, 1, 9, 0, 0)))
+                .isEqualTo(MissionStatus.ACTIVE);
+        assertThat(MissionStatusResolver.resolve(startDate, endDate, LocalDateTime.of(2023, 3, 1, 23, 59, 59)))
+                .isEqualTo(MissionStatus.ACTIVE);
+        assertThat(MissionStatusResolver.resolve(startDate, endDate, LocalDateTime.of(2023, 3, 2, 0, 0, 0)))
+                .isEqualTo(MissionStatus.FINISH);
+    }
+
+    @DisplayName("기간이 없는 미션은 종료일이 없어 시작 후 항상 진행 중 상태이다.")
+    @Test
+    void resolveWithoutPeriod() {
+        assertThat(MissionStatusResolver.resolve(missionStartDate, null, missionStartDate.plusYears(1)))
+                .isEqualTo(MissionStatus.ACTIVE);
+    }
+}
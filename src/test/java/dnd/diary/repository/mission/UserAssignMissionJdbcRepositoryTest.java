@@ -0,0 +1,117 @@
+package dnd.diary.repository.mission;
+
+import dnd.diary.domain.group.Group;
+import dnd.diary.domain.mission.Mission;
+import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.domain.mission.UserAssignMission;
+import dnd.diary.domain.user.Authority;
+import dnd.diary.domain.user.User;
+import dnd.diary.repository.group.GroupRepository;
+import dnd.diary.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserAssignMissionJdbcRepositoryTest {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int MISSION_COUNT = 100;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private UserAssignMissionRepository userAssignMissionRepository;
+
+    @Autowired
+    private UserAssignMissionJdbcRepository userAssignMissionJdbcRepository;
+
+    @DisplayName("구성원 50명 x 미션 100개 조합의 미션 할당을 일괄 저장한다.")
+    @Test
+    void batchInsert() {
+        // given
+        List<User> users = getUsersAndSave(MEMBER_COUNT);
+        Group group = getGroupSave(users.get(0));
+        List<Mission> missions = getMissionsAndSave(users.get(0), group, MISSION_COUNT);
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        List<Long> missionIds = missions.stream().map(Mission::getId).toList();
+        long countBefore = userAssignMissionRepository.count();
+
+        // when
+        userAssignMissionJdbcRepository.batchInsert(userIds, missionIds);
+
+        // then
+        assertThat(userAssignMissionRepository.count() - countBefore).isEqualTo((long) MEMBER_COUNT * MISSION_COUNT);
+        UserAssignMission userAssignMission = userAssignMissionRepository.findByUserIdAndMissionId(
+                userIds.get(MEMBER_COUNT - 1), missionIds.get(MISSION_COUNT - 1)
+        );
+        assertThat(userAssignMission.getLocationCheck()).isFalse();
+        assertThat(userAssignMission.getContentCheck()).isFalse();
+        assertThat(userAssignMission.getIsComplete()).isFalse();
+    }
+
+    private List<User> getUsersAndSave(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .authorities(getAuthorities())
+                    .email("test" + i + "@test.com")
+                    .password("abc123!")
+                    .name("테스트 계정")
+                    .nickName("테스트 닉네임" + i)
+                    .phoneNumber("010-1234-5678")
+                    .profileImageUrl("test.png")
+                    .mainLevel(0L)
+                    .subLevel(0.0)
+                    .isNewNotification(Boolean.FALSE)
+                    .build());
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private static Set<Authority> getAuthorities() {
+        return Collections.singleton(Authority.builder()
+                .authorityName("ROLE_USER")
+                .build());
+    }
+
+    private Group getGroupSave(User user) {
+        Group group = Group.builder()
+                .groupName("테스트 그룹")
+                .groupCreateUser(user)
+                .groupImageUrl("테스트 이미지")
+                .groupNote("테스트 내용")
+                .build();
+
+        return groupRepository.save(group);
+    }
+
+    private List<Mission> getMissionsAndSave(User user, Group group, int count) {
+        List<Mission> missions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            missions.add(Mission.toEntity(user, group, "테스트 미션" + i, "테스트 내용", false
+                    , null, null, "삼성 서비스 센터", "서울"
+                    , 37.5665, 126.9780, 1, MissionStatus.ACTIVE, null));
+        }
+        return missionRepository.saveAll(missions);
+    }
+}
@@ -1,32 +1,46 @@
 package dnd.diary.service.content;
 
+import dnd.diary.domain.bookmark.Bookmark;
 import dnd.diary.domain.content.Content;
+import dnd.diary.domain.content.ContentImage;
+import dnd.diary.domain.content.Emotion;
 import dnd.diary.domain.group.Group;
 import dnd.diary.domain.user.Authority;
 import dnd.diary.domain.user.User;
 import dnd.diary.domain.user.UserJoinGroup;
+import dnd.diary.repository.content.BookmarkRepository;
 import dnd.diary.repository.content.CommentRepository;
+import dnd.diary.repository.content.ContentImageRepository;
 import dnd.diary.repository.content.ContentRepository;
+import dnd.diary.repository.content.EmotionRepository;
+import dnd.diary.repository.content.ImageDeletionRepository;
 import dnd.diary.repository.group.GroupRepository;
 import dnd.diary.repository.group.UserJoinGroupRepository;
 import dnd.diary.repository.user.UserRepository;
 import dnd.diary.response.content.ContentResponse;
 import dnd.diary.service.redis.RedisService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -57,6 +71,24 @@ class ContentServiceTest {
     @Autowired
     private ContentRepository contentRepository;
 
+    @Autowired
+    private EmotionRepository emotionRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private ContentImageRepository contentImageRepository;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
 
     @DisplayName("유저가 피드를 작성한다.")
     @Test
@@ -83,7 +115,7 @@ class ContentServiceTest {
         Group group = getGroupSave(user);
         Content content = getContentAndSave(user, group);
 
-        given(redisService.getViewsAndRedisSave(anyLong(), anyString()))
+        given(redisService.getViewsAndRedisSave(anyLong(), anyString(), anyLong()))
                 .willReturn(5);
 
         // when
@@ -96,6 +128,33 @@ class ContentServiceTest {
                 .contains("테스트 그룹", "테스트 닉네임", "테스트 내용", "삼성 서비스 센터");
     }
 
+    @DisplayName("피드 상세조회 시 공감과 북마크 수가 늘어나도 실행되는 쿼리 수는 일정하다.")
+    @Test
+    void contentDetailStatementCount() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        Content fewReactionContent = getContentAndSave(user, group);
+        Content manyReactionContent = getContentAndSave(user, group);
+
+        addEmotionsAndBookmarks(user, group, fewReactionContent, 1);
+        addEmotionsAndBookmarks(user, group, manyReactionContent, 30);
+
+        given(redisService.getViewsAndRedisSave(anyLong(), anyString(), anyLong()))
+                .willReturn(5);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // when
+        long fewReactionStatementCount = countDetailStatements(statistics, user, fewReactionContent);
+        long manyReactionStatementCount = countDetailStatements(statistics, user, manyReactionContent);
+
+        // then
+        assertThat(manyReactionStatementCount).isEqualTo(fewReactionStatementCount);
+        assertThat(manyReactionStatementCount).isLessThanOrEqualTo(3L);
+    }
+
     @DisplayName("유저가 자신이 작성한 글을 수정한다.")
     @Test
     void contentUpdate() {
@@ -104,8 +163,8 @@ class ContentServiceTest {
         Group group = getGroupSave(user);
         Content content = getContentAndSave(user, group);
 
-        given(redisService.getValues(anyString()))
-                .willReturn("23");
+        given(redisService.getViews(anyLong(), anyLong()))
+                .willReturn(23);
 
         // when
         ContentResponse.Update response = contentService.updateContent(user.getId(), null, content.getId(), "하이", 2.0, 2.0, "명륜진사갈비");
@@ -116,6 +175,40 @@ class ContentServiceTest {
                 .contains("테스트 닉네임", "하이", "명륜진사갈비", 2.0, 2.0);
     }
 
+    @DisplayName("이미지가 있는 글을 수정하면 수정 내용이 저장되고 기존 이미지는 삭제된다.")
+    @Test
+    void contentUpdateWithImages() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        Content content = getContentAndSave(user, group);
+        contentImageRepository.save(ContentImage.builder()
+                .content(content)
+                .imageName("image.png")
+                .imageUrl("https://test-bucket.s3.amazonaws.com/image.png")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        given(redisService.getViews(anyLong(), anyLong()))
+                .willReturn(23);
+
+        // when
+        contentService.updateContent(user.getId(), null, content.getId(), "하이", 2.0, 2.0, "명륜진사갈비");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Content updatedContent = contentRepository.findById(content.getId()).orElseThrow();
+        assertThat(updatedContent)
+                .extracting("content", "location", "latitude", "longitude")
+                .containsExactly("하이", "명륜진사갈비", 2.0, 2.0);
+        assertThat(contentImageRepository.findByContentId(content.getId())).isEmpty();
+        assertThat(imageDeletionRepository.findAll())
+                .extracting("fileName")
+                .contains("image.png");
+    }
+
     @DisplayName("유저가 자신이 작성한 글을 삭제한다.")
     @Test
     void contentDelete() {
@@ -142,11 +235,8 @@ class ContentServiceTest {
         Group group = getGroupSave(user);
         getContentAndSave(user, group);
 
-        given(redisService.getValues(anyString()))
-                .willReturn("23");
-
-        given(redisService.isCheckAddBookmark(anyString(), anyLong()))
-                .willReturn(false);
+        given(redisService.getMultiValues(anyList()))
+                .willReturn(List.of("23"));
 
         // when
         Page<ContentResponse.GroupPage> response = contentService.groupListContent(user.getId(), group.getId(), 1);
@@ -167,11 +257,8 @@ class ContentServiceTest {
         Group group = getGroupSave(user);
         getContentAndSave(user, group);
 
-        given(redisService.getValues(anyString()))
-                .willReturn("23");
-
-        given(redisService.isCheckAddBookmark(anyString(), anyLong()))
-                .willReturn(false);
+        given(redisService.getMultiValues(anyList()))
+                .willReturn(List.of("23"));
 
         List<Long> groups = List.of(group.getId());
 
@@ -186,6 +273,64 @@ class ContentServiceTest {
                 );
     }
 
+    @DisplayName("홈 타임라인에서 가입한 그룹의 피드만 최신순으로 조회한다.")
+    @Test
+    void timelineContent() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        Group otherGroup = getGroupSave(user);
+        userJoinGroupRepository.save(UserJoinGroup.builder()
+                .user(user)
+                .group(group)
+                .build());
+
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            savedIds.add(getContentAndSave(user, group).getId());
+        }
+        getContentAndSave(user, otherGroup);
+
+        // when
+        Slice<ContentResponse.GroupPage> response = contentService.timelineContent(user.getId(), 1);
+
+        // then
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.getContent())
+                .extracting("id")
+                .containsExactly(savedIds.get(2), savedIds.get(1), savedIds.get(0));
+    }
+
+    @DisplayName("그룹 피드를 커서 기반으로 중복, 누락 없이 최신순으로 조회한다.")
+    @Test
+    void groupCursorListContent() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(getContentAndSave(user, group).getId());
+        }
+
+        List<Long> groups = List.of(group.getId());
+
+        // when
+        List<Long> responseIds = new ArrayList<>();
+        ContentResponse.CursorPage response = contentService.groupCursorListContent(user.getId(), groups, null, null, 2);
+        responseIds.addAll(response.getContents().stream().map(ContentResponse.GroupPage::getId).toList());
+        while (response.isHasNext()) {
+            response = contentService.groupCursorListContent(
+                    user.getId(), groups, response.getLastCreatedAt(), response.getLastContentId(), 2
+            );
+            responseIds.addAll(response.getContents().stream().map(ContentResponse.GroupPage::getId).toList());
+        }
+
+        // then
+        assertThat(responseIds).hasSize(5)
+                .containsExactlyInAnyOrderElementsOf(savedIds)
+                .doesNotHaveDuplicates();
+    }
+
     @DisplayName("유저가 피드의 내용을 검색하여 조회한다.")
     @Test
     void searchContent() {
@@ -216,6 +361,36 @@ class ContentServiceTest {
         System.out.println(elapsedTime);
     }
 
+    @DisplayName("피드 검색 시 전체 개수는 검색어와 일치하는 피드만 집계한다.")
+    @Test
+    void searchContentTotalCount() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+
+        for (int i = 0; i < 3; i++) {
+            getContentAndSave(user, group);
+        }
+        for (int i = 0; i < 2; i++) {
+            contentRepository.save(Content.builder()
+                    .user(user)
+                    .group(group)
+                    .content("다른 글")
+                    .views(0)
+                    .contentLink("test.com")
+                    .build());
+        }
+
+        // when
+        Page<ContentResponse.Create> response = contentService.contentSearch(List.of(group.getId()), "테스트", 1);
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(3L);
+        assertThat(response.getContent())
+                .extracting("content")
+                .containsOnly("테스트 내용");
+    }
+
     @DisplayName("유저가 위치를 검색하여 주변에 남겨진 피드들을 검색한다.")
     @Test
     void listMyMap() {
@@ -248,6 +423,42 @@ class ContentServiceTest {
                 );
     }
 
+    @DisplayName("넓은 지도 범위의 피드는 격자 단위로 묶어서 조회한다.")
+    @Test
+    void listMyMapClusters() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+
+        UserJoinGroup userJoinGroup = UserJoinGroup.builder()
+                .user(user)
+                .group(group)
+                .build();
+
+        userJoinGroupRepository.save(userJoinGroup);
+
+        getContentAndSave(user, group, 37.802508, 127.076286);
+        getContentAndSave(user, group, 37.802508, 127.076286);
+        getContentAndSave(user, group, 37.802508, 127.076286);
+        getContentAndSave(user, group, 37.910000, 127.160000);
+
+        // when
+        ContentResponse.ClusteredMap response =
+                contentService.listMyMapClusters(user.getId(), 37.75, 127.0, 37.95, 127.2);
+
+        // then
+        assertThat(response.isClustered()).isTrue();
+        assertThat(response.getContents()).isEmpty();
+        assertThat(response.getClusters()).hasSize(2)
+                .extracting("counts", "locationCount")
+                .containsExactlyInAnyOrder(
+                        tuple(3L, 1L),
+                        tuple(1L, 1L)
+                );
+        assertThat(response.getClusters())
+                .allMatch(cluster -> cluster.getContentImageUrl() != null);
+    }
+
     @DisplayName("주변에 남겨진 검색된 피드들을 중복된 장소의 피드를 포함하여 상세조회한다.")
     @Test
     void myMapListDetail() {
@@ -275,6 +486,46 @@ class ContentServiceTest {
     }
 
     // method
+    private long countDetailStatements(Statistics statistics, User user, Content content) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        ContentResponse.Detail response = contentService.detailContent(user.getId(), content.getId());
+        assertThat(response.getEmotionStatus()).isEqualTo(1L);
+        assertThat(response.getBookmarkAddStatus()).isTrue();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addEmotionsAndBookmarks(User user, Group group, Content content, int count) {
+        emotionRepository.save(Emotion.builder()
+                .content(content)
+                .user(user)
+                .emotionStatus(1L)
+                .emotionYn(true)
+                .build());
+        bookmarkRepository.save(Bookmark.builder()
+                .content(content)
+                .user(user)
+                .build());
+
+        for (int i = 1; i < count; i++) {
+            User otherUser = getUserAndSave();
+            emotionRepository.save(Emotion.builder()
+                    .content(content)
+                    .user(otherUser)
+                    .emotionStatus(2L)
+                    .emotionYn(true)
+                    .build());
+            // 조회하는 사용자가 다른 게시물에 남긴 북마크
+            bookmarkRepository.save(Bookmark.builder()
+                    .content(getContentAndSave(otherUser, group))
+                    .user(user)
+                    .build());
+        }
+    }
+
     private User getUserAndSave() {
         User user = User.builder()
                 .authorities(getAuthorities())
@@ -0,0 +1,130 @@
+package dnd.diary.service.group;
+
+import dnd.diary.domain.group.NotificationType;
+import dnd.diary.service.redis.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class NotificationPushServiceTest {
+
+    private final RedisService redisService = mock(RedisService.class);
+    private final List<RecordingEmitter> createdEmitters = new ArrayList<>();
+    private final ThreadPoolExecutor sender = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1)
+    );
+    private final NotificationPushService notificationPushService = new NotificationPushService(
+            redisService, mock(RedisMessageListenerContainer.class),
+            () -> {
+                RecordingEmitter emitter = new RecordingEmitter();
+                createdEmitters.add(emitter);
+                return emitter;
+            },
+            sender
+    );
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    @DisplayName("SSE 연결 직후 연결 확인 이벤트를 보낸다.")
+    @Test
+    void subscribe() {
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) notificationPushService.subscribe(1L);
+
+        // then
+        assertThat(emitter.events).containsExactly(":connected\n");
+    }
+
+    @DisplayName("새 알림은 Redis 로 발행하고, 전달받은 서버는 연결된 사용자에게만 전송한다.")
+    @Test
+    void publishAndDeliver() throws InterruptedException {
+        // given
+        RecordingEmitter connectedEmitter = (RecordingEmitter) notificationPushService.subscribe(1L);
+
+        // when
+        notificationPushService.publish(List.of(1L, 2L), NotificationType.INVITE);
+        notificationPushService.onMessage(message(1L, NotificationType.INVITE), null);
+        notificationPushService.onMessage(message(2L, NotificationType.INVITE), null);
+        awaitSender();
+
+        // then
+        then(redisService).should().publishNotification(List.of(1L, 2L), NotificationType.INVITE.name());
+        assertThat(connectedEmitter.events).containsExactly(":connected\n", "event:notification\ndata:INVITE\n\n");
+    }
+
+    @DisplayName("heartbeat 는 연결된 사용자를 모아 한 작업으로 전송하고, 대기열이 가득 차면 예외 없이 건너뛴다.")
+    @Test
+    void sendHeartbeatInBatch() throws InterruptedException {
+        // given
+        List<RecordingEmitter> emitters = List.of(
+                (RecordingEmitter) notificationPushService.subscribe(1L),
+                (RecordingEmitter) notificationPushService.subscribe(2L),
+                (RecordingEmitter) notificationPushService.subscribe(3L)
+        );
+        CountDownLatch blocked = new CountDownLatch(1);
+        sender.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        notificationPushService.sendHeartbeat();
+        int queuedTaskCount = sender.getQueue().size();
+        notificationPushService.sendHeartbeat();   // 대기열 초과
+        blocked.countDown();
+        awaitSender();
+
+        // then
+        assertThat(queuedTaskCount).isEqualTo(1);
+        assertThat(emitters).allSatisfy(emitter ->
+                assertThat(emitter.events).containsExactly(":connected\n", ":heartbeat\n")
+        );
+    }
+
+    private DefaultMessage message(Long userId, NotificationType notificationType) {
+        return new DefaultMessage(
+                RedisService.NOTIFICATION_PUSH_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (userId + RedisService.NOTIFICATION_PUSH_DELIMITER + notificationType.name()).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private void awaitSender() throws InterruptedException {
+        sender.shutdown();
+        assertThat(sender.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // 보낸 이벤트를 기록하는 SseEmitter
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package dnd.diary.service.group;
+
+import dnd.diary.domain.content.Content;
+import dnd.diary.domain.group.Group;
+import dnd.diary.domain.group.NotificationOutbox;
+import dnd.diary.domain.group.NotificationType;
+import dnd.diary.domain.user.Authority;
+import dnd.diary.domain.user.User;
+import dnd.diary.repository.content.ContentRepository;
+import dnd.diary.repository.group.GroupRepository;
+import dnd.diary.repository.group.NotificationOutboxRepository;
+import dnd.diary.repository.user.UserRepository;
+import dnd.diary.request.controller.content.CommentRequest;
+import dnd.diary.response.notification.AllNotificationListResponse;
+import dnd.diary.service.content.CommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ContentRepository contentRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationOutboxProcessor notificationOutboxProcessor;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("내 게시물 댓글 알림을 최신순으로 조회한다.")
+    @Test
+    void getAllNotificationList() {
+        // given
+        User writer = getUserAndSave("writer@test.com", "작성자");
+        User commenter = getUserAndSave("commenter@test.com", "댓글 작성자");
+        Group group = getGroupSave(writer);
+        Content content = getContentAndSave(writer, group);
+
+        for (int i = 0; i < 3; i++) {
+            commentService.commentAdd(
+                    commenter.getId(), content.getId(), new CommentRequest.Add("댓글 " + i, null).toServiceRequest()
+            );
+        }
+        notificationOutboxProcessor.processPending();
+
+        // when
+        AllNotificationListResponse response = notificationService.getAllNotificationList(writer.getId(), null, 1);
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(3L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNotificationInfoList())
+                .extracting("notificationType", "userName", "contentId")
+                .containsOnly(tuple(NotificationType.CONTENT_COMMENT, "댓글 작성자", content.getId()));
+    }
+
+    @DisplayName("요청한 종류의 알림만 조회한다.")
+    @Test
+    void getAllNotificationListByType() {
+        // given
+        User writer = getUserAndSave("writer@test.com", "작성자");
+        User commenter = getUserAndSave("commenter@test.com", "댓글 작성자");
+        Group group = getGroupSave(writer);
+        Content content = getContentAndSave(writer, group);
+
+        commentService.commentAdd(
+                commenter.getId(), content.getId(), new CommentRequest.Add("댓글", null).toServiceRequest()
+        );
+        notificationOutboxProcessor.processPending();
+
+        // when
+        AllNotificationListResponse response = notificationService.getAllNotificationList(
+                writer.getId(), List.of(NotificationType.CONTENT_EMOTION), 1
+        );
+
+        // then
+        assertThat(response.getTotalCount()).isZero();
+        assertThat(response.getNotificationInfoList()).isEmpty();
+    }
+
+    @DisplayName("읽지 않은 알림 개수를 조회한다.")
+    @Test
+    void checkNoReadNotificationCount() {
+        // given
+        User writer = getUserAndSave("writer@test.com", "작성자");
+        User commenter = getUserAndSave("commenter@test.com", "댓글 작성자");
+        Group group = getGroupSave(writer);
+        Content content = getContentAndSave(writer, group);
+
+        for (int i = 0; i < 2; i++) {
+            commentService.commentAdd(
+                    commenter.getId(), content.getId(), new CommentRequest.Add("댓글 " + i, null).toServiceRequest()
+            );
+        }
+        notificationOutboxProcessor.processPending();
+        Long notificationId = notificationService.getAllNotificationList(writer.getId(), null, 1)
+                .getNotificationInfoList().get(0).getNotificationId();
+
+        // when
+        notificationService.readNotification(notificationId);
+
+        // then
+        assertThat(notificationService.checkNoReadNotificationCount(writer)).isEqualTo(1L);
+    }
+
+    @DisplayName("댓글 알림은 발행 대기 후 일괄 저장되고 수신자의 새 알림 여부가 갱신된다.")
+    @Test
+    void processPendingNotification() {
+        // given
+        User writer = getUserAndSave("writer@test.com", "작성자");
+        User commenter = getUserAndSave("commenter@test.com", "댓글 작성자");
+        Group group = getGroupSave(writer);
+        Content content = getContentAndSave(writer, group);
+
+        commentService.commentAdd(
+                commenter.getId(), content.getId(), new CommentRequest.Add("댓글", null).toServiceRequest()
+        );
+        long countBeforeProcess = notificationService.getAllNotificationList(writer.getId(), null, 1).getTotalCount();
+
+        // when
+        int processedCount = notificationOutboxProcessor.processPending();
+        entityManager.clear();
+
+        // then
+        assertThat(countBeforeProcess).isZero();
+        assertThat(processedCount).isEqualTo(1);
+        assertThat(notificationService.getAllNotificationList(writer.getId(), null, 1).getTotalCount()).isEqualTo(1L);
+        assertThat(userRepository.findById(writer.getId()).orElseThrow().isNewNotification()).isTrue();
+        assertThat(notificationOutboxRepository.count()).isZero();
+    }
+
+    @DisplayName("수신자가 많은 이벤트도 수신자 목록을 모두 저장한다.")
+    @Test
+    void saveOutboxWithManyRecipients() {
+        // given
+        List<Long> recipientIds = LongStream.range(0, 500)
+                .mapToObj(i -> 1_000_000_000L + i)
+                .toList();
+
+        // when
+        NotificationOutbox outbox = notificationOutboxRepository.save(
+                NotificationOutbox.toNewGroupMemberEntity(1L, 2L, null, recipientIds)
+        );
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(notificationOutboxRepository.findById(outbox.getId()).orElseThrow().getRecipientIdList())
+                .containsExactlyElementsOf(recipientIds);
+    }
+
+    private User getUserAndSave(String email, String nickName) {
+        User user = User.builder()
+                .authorities(getAuthorities())
+                .email(email)
+                .password("abc123!")
+                .name("테스트 계정")
+                .nickName(nickName)
+                .phoneNumber("010-1234-5678")
+                .profileImageUrl("test.png")
+                .mainLevel(0L)
+                .subLevel(0.0)
+                .isNewNotification(Boolean.FALSE)
+                .build();
+
+        return userRepository.save(user);
+    }
+
+    private static Set<Authority> getAuthorities() {
+        return Collections.singleton(Authority.builder()
+                .authorityName("ROLE_USER")
+                .build());
+    }
+
+    private Content getContentAndSave(User user, Group group) {
+        Content content = Content.builder()
+                .user(user)
+                .group(group)
+                .content("테스트 내용")
+                .latitude(0.0)
+                .longitude(0.0)
+                .location("삼성 서비스 센터")
+                .views(0)
+                .contentLink("test.com")
+                .build();
+
+        return contentRepository.save(content);
+    }
+
+    private Group getGroupSave(User user) {
+        Group group = Group.builder()
+                .groupName("테스트 그룹")
+                .groupCreateUser(user)
+                .groupImageUrl("테스트 이미지")
+                .groupNote("테스트 내용")
+                .build();
+
+        groupRepository.save(group);
+        return group;
+    }
+}
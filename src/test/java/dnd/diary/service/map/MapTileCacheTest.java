@@ -0,0 +1,105 @@
+package dnd.diary.service.map;
+
+import dnd.diary.domain.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapTileCacheTest {
+
+    private final List<GeoPoint> points = List.of(
+            new GeoPoint(1L, 37.5665, 126.9780),
+            new GeoPoint(2L, 37.5700, 126.9820),
+            new GeoPoint(3L, 35.1796, 129.0756)
+    );
+
+    @DisplayName("같은 지도 범위를 다시 조회하면 DB 대신 캐시된 타일을 사용한다.")
+    @Test
+    void findIdsWithinUsesCachedTiles() {
+        // given
+        MapTileCache mapTileCache = new MapTileCache();
+        AtomicInteger loadCount = new AtomicInteger();
+        MapTileCache.TileLoader loader = countingLoader(loadCount);
+        String scope = MapTileCache.contentScope(List.of(1L));
+
+        // when
+        List<Long> first = mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountAfterFirst = loadCount.get();
+        List<Long> second = mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+
+        // then
+        assertThat(first).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(loadCount.get()).isEqualTo(loadCountAfterFirst);
+        assertThat(mapTileCache.getStats().getHitCount()).isEqualTo(loadCountAfterFirst);
+    }
+
+    @DisplayName("게시물이 변경된 타일만 무효화되어 다시 조회된다.")
+    @Test
+    void evictContentReloadsTile() {
+        // given
+        MapTileCache mapTileCache = new MapTileCache();
+        AtomicInteger loadCount = new AtomicInteger();
+        MapTileCache.TileLoader loader = countingLoader(loadCount);
+        String scope = MapTileCache.contentScope(List.of(2L, 1L));
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountBeforeEvict = loadCount.get();
+
+        // when
+        mapTileCache.evictContent(1L, 37.5665, 126.9780);
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(loadCountBeforeEvict + 1);
+    }
+
+    @DisplayName("TTL 이 지난 타일은 무효화 메시지가 없어도 다시 조회된다.")
+    @Test
+    void expiredTileReloads() {
+        // given
+        AtomicLong now = new AtomicLong(0);
+        MapTileCache mapTileCache = new MapTileCache(Duration.ofMinutes(10), now::get);
+        AtomicInteger loadCount = new AtomicInteger();
+        MapTileCache.TileLoader loader = countingLoader(loadCount);
+        String scope = MapTileCache.contentScope(List.of(1L));
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountBeforeExpire = loadCount.get();
+
+        // when
+        now.set(Duration.ofMinutes(9).toMillis());
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountBeforeTtl = loadCount.get();
+        now.set(Duration.ofMinutes(10).toMillis());
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+
+        // then
+        assertThat(loadCountBeforeTtl).isEqualTo(loadCountBeforeExpire);
+        assertThat(loadCount.get()).isEqualTo(loadCountBeforeExpire * 2);
+    }
+
+    @DisplayName("축소된 지도처럼 타일 수가 많은 범위는 캐시를 사용하지 않는다.")
+    @Test
+    void isCacheable() {
+        MapTileCache mapTileCache = new MapTileCache();
+
+        assertThat(mapTileCache.isCacheable(37.56, 126.97, 37.58, 126.99)).isTrue();
+        assertThat(mapTileCache.isCacheable(33.0, 124.0, 38.6, 131.0)).isFalse();
+    }
+
+    private MapTileCache.TileLoader countingLoader(AtomicInteger loadCount) {
+        return (minLatitude, maxLatitude, minLongitude, maxLongitude) -> {
+            loadCount.incrementAndGet();
+            return points.stream()
+                    .filter(point -> point.getLatitude() >= minLatitude && point.getLatitude() <= maxLatitude
+                            && point.getLongitude() >= minLongitude && point.getLongitude() <= maxLongitude)
+                    .collect(Collectors.toList());
+        };
+    }
+}
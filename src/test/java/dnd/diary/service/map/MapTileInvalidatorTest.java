@@ -0,0 +1,84 @@
+package dnd.diary.service.map;
+
+import dnd.diary.domain.GeoPoint;
+import dnd.diary.service.redis.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class MapTileInvalidatorTest {
+
+    private final MapTileCache mapTileCache = new MapTileCache();
+    private final RedisService redisService = mock(RedisService.class);
+    private final MapTileInvalidator mapTileInvalidator =
+            new MapTileInvalidator(mapTileCache, redisService, mock(RedisMessageListenerContainer.class));
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final MapTileCache.TileLoader loader = (minLatitude, maxLatitude, minLongitude, maxLongitude) -> {
+        loadCount.incrementAndGet();
+        return List.of(new GeoPoint(1L, 37.5665, 126.9780));
+    };
+    private final String scope = MapTileCache.contentScope(List.of(1L));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("트랜잭션 안에서 요청한 무효화는 커밋 후에 적용하고 다른 서버에 전달한다.")
+    @Test
+    void evictContentAfterCommit() {
+        // given
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountBeforeEvict = loadCount.get();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        mapTileInvalidator.evictContent(1L, 37.5665, 126.9780);
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountBeforeCommit = loadCount.get();
+        then(redisService).should(never()).publishMapTileInvalidation(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+
+        // then
+        assertThat(loadCountBeforeCommit).isEqualTo(loadCountBeforeEvict);
+        assertThat(loadCount.get()).isEqualTo(loadCountBeforeEvict + 1);
+        then(redisService).should().publishMapTileInvalidation("content:1:37.5665:126.978");
+    }
+
+    @DisplayName("다른 서버에서 전달된 무효화 메시지로 현재 서버의 타일을 무효화한다.")
+    @Test
+    void onMessage() {
+        // given
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+        int loadCountBeforeEvict = loadCount.get();
+
+        // when
+        mapTileInvalidator.onMessage(new DefaultMessage(
+                RedisService.MAP_TILE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "content:1:37.5665:126.978".getBytes(StandardCharsets.UTF_8)
+        ), null);
+        mapTileCache.findIdsWithin(scope, 37.56, 126.97, 37.58, 126.99, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(loadCountBeforeEvict + 1);
+    }
+}
@@ -0,0 +1,135 @@
+package dnd.diary.service.mission;
+
+import dnd.diary.domain.group.Group;
+import dnd.diary.domain.mission.Mission;
+import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.domain.mission.MissionStatusResolver;
+import dnd.diary.domain.user.Authority;
+import dnd.diary.domain.user.User;
+import dnd.diary.repository.group.GroupRepository;
+import dnd.diary.repository.mission.MissionRepository;
+import dnd.diary.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MissionSchedulerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private MissionScheduler missionScheduler;
+
+    @DisplayName("미션 기간에 따라 상태가 바뀌는 미션만 READY -> ACTIVE, ACTIVE -> FINISH 로 변경한다.")
+    @Test
+    void updateMissionStatus() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        Mission startedMission = getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(3), MissionStatus.READY);
+        Mission finishedMission = getMissionAndSave(user, group, true, now.minusDays(6), now.minusDays(3), MissionStatus.ACTIVE);
+        Mission readyMission = getMissionAndSave(user, group, true, now.plusDays(3), now.plusDays(6), MissionStatus.READY);
+        Mission noPeriodMission = getMissionAndSave(user, group, false, now.minusDays(3), null, MissionStatus.ACTIVE);
+
+        // when
+        missionScheduler.updateMissionStatus();
+
+        // then
+        assertThat(missionRepository.findById(startedMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.ACTIVE);
+        assertThat(missionRepository.findById(finishedMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.FINISH);
+        assertThat(missionRepository.findById(readyMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.READY);
+        assertThat(missionRepository.findById(noPeriodMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.ACTIVE);
+    }
+
+    @DisplayName("어제 종료된 미션은 종료하고, 오늘 종료되거나 오늘 시작하는 미션은 진행 중으로 변경한다.")
+    @Test
+    void updateMissionStatusAtDayBoundary() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        Mission endedYesterdayMission = getMissionAndSave(user, group, true, MissionStatusResolver.missionStartDate(today.minusDays(3)),
+                MissionStatusResolver.missionEndDate(today.minusDays(1)), MissionStatus.ACTIVE);
+        Mission endingTodayMission = getMissionAndSave(user, group, true, MissionStatusResolver.missionStartDate(today.minusDays(3)),
+                MissionStatusResolver.missionEndDate(today), MissionStatus.ACTIVE);
+        Mission startingTodayMission = getMissionAndSave(user, group, true, MissionStatusResolver.missionStartDate(today),
+                MissionStatusResolver.missionEndDate(today), MissionStatus.READY);
+        Mission startingTomorrowMission = getMissionAndSave(user, group, true, MissionStatusResolver.missionStartDate(today.plusDays(1)),
+                MissionStatusResolver.missionEndDate(today.plusDays(1)), MissionStatus.READY);
+
+        // when
+        missionScheduler.updateMissionStatus();
+
+        // then
+        assertThat(missionRepository.findById(endedYesterdayMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.FINISH);
+        assertThat(missionRepository.findById(endingTodayMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.ACTIVE);
+        assertThat(missionRepository.findById(startingTodayMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.ACTIVE);
+        assertThat(missionRepository.findById(startingTomorrowMission.getId()).orElseThrow().getMissionStatus()).isEqualTo(MissionStatus.READY);
+    }
+
+    private Mission getMissionAndSave(User user, Group group, boolean existPeriod, LocalDateTime missionStartDate,
+                                      LocalDateTime missionEndDate, MissionStatus missionStatus) {
+        Mission mission = Mission.toEntity(user, group, "테스트 미션", "테스트 내용", existPeriod
+                , missionStartDate, missionEndDate, "삼성 서비스 센터", "서울"
+                , 37.5665, 126.9780, 1, missionStatus, null);
+        return missionRepository.save(mission);
+    }
+
+    private User getUserAndSave() {
+        User user = User.builder()
+                .authorities(getAuthorities())
+                .email("test@test.com")
+                .password("abc123!")
+                .name("테스트 계정")
+                .nickName("테스트 닉네임")
+                .phoneNumber("010-1234-5678")
+                .profileImageUrl("test.png")
+                .mainLevel(0L)
+                .subLevel(0.0)
+                .isNewNotification(Boolean.FALSE)
+                .build();
+
+        return userRepository.save(user);
+    }
+
+    private static Set<Authority> getAuthorities() {
+        return Collections.singleton(Authority.builder()
+                .authorityName("ROLE_USER")
+                .build());
+    }
+
+    private Group getGroupSave(User user) {
+        Group group = Group.builder()
+                .groupName("테스트 그룹")
+                .groupCreateUser(user)
+                .groupImageUrl("테스트 이미지")
+                .groupNote("테스트 내용")
+                .build();
+
+        return groupRepository.save(group);
+    }
+}
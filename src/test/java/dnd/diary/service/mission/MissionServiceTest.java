@@ -0,0 +1,247 @@
+package dnd.diary.service.mission;
+
+import dnd.diary.domain.group.Group;
+import dnd.diary.domain.mission.Mission;
+import dnd.diary.domain.mission.MissionStatus;
+import dnd.diary.domain.mission.MissionStatusResolver;
+import dnd.diary.domain.user.Authority;
+import dnd.diary.domain.user.User;
+import dnd.diary.enumeration.Result;
+import dnd.diary.exception.CustomException;
+import dnd.diary.repository.group.GroupRepository;
+import dnd.diary.repository.mission.MissionRepository;
+import dnd.diary.repository.mission.UserAssignMissionJdbcRepository;
+import dnd.diary.repository.user.UserRepository;
+import dnd.diary.response.mission.MissionNearbyResponse;
+import dnd.diary.response.mission.MissionResponse;
+import dnd.diary.service.s3.S3Service;
+import dnd.diary.service.s3.S3Uploader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MissionServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private UserAssignMissionJdbcRepository userAssignMissionJdbcRepository;
+
+    @Autowired
+    private MissionService missionService;
+
+    @MockBean
+    private S3Service s3Service;
+
+    @DisplayName("시작 전/진행 중인 미완료 미션을 종료일이 가까운 순으로 한 번에 조회한다.")
+    @Test
+    void getReadyAndActiveMissionList() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        Mission noPeriodMission = getMissionAndSave(user, group, false, now.minusDays(3), null, MissionStatus.ACTIVE);
+        Mission readyMission = getMissionAndSave(user, group, true, now.plusDays(3), now.plusDays(10), MissionStatus.READY);
+        Mission activeMission = getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(3), MissionStatus.ACTIVE);
+        Mission finishedMission = getMissionAndSave(user, group, true, now.minusDays(10), now.minusDays(3), MissionStatus.ACTIVE);
+        userAssignMissionJdbcRepository.batchInsert(
+                List.of(user.getId()),
+                List.of(noPeriodMission.getId(), readyMission.getId(), activeMission.getId(), finishedMission.getId())
+        );
+
+        // when
+        List<MissionResponse> missionResponses = missionService.getReadyAndActiveMissionList(user.getId());
+
+        // then
+        assertThat(missionResponses)
+                .extracting("missionId", "missionStatus", "groupName", "createUserName")
+                .containsExactly(
+                        tuple(activeMission.getId(), MissionStatus.ACTIVE, "테스트 그룹", "테스트 닉네임"),
+                        tuple(readyMission.getId(), MissionStatus.READY, "테스트 그룹", "테스트 닉네임"),
+                        tuple(noPeriodMission.getId(), MissionStatus.ACTIVE, "테스트 그룹", "테스트 닉네임")
+                );
+        assertThat(missionResponses.get(0).getUserAssignMissionInfo().getIsComplete()).isFalse();
+    }
+
+    @DisplayName("그룹 메인 페이지에는 종료일이 가까운 미완료 미션 최대 4개만 조회한다.")
+    @Test
+    void getReadyAndActiveGroupMissionList() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        List<Long> missionIds = new ArrayList<>();
+        for (int i = 5; i >= 1; i--) {
+            missionIds.add(getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(i * 2L), MissionStatus.ACTIVE).getId());
+        }
+        userAssignMissionJdbcRepository.batchInsert(List.of(user.getId()), missionIds);
+
+        // when
+        List<MissionResponse> missionResponses = missionService.getReadyAndActiveGroupMissionList(user.getId(), group.getId().intValue());
+
+        // then
+        assertThat(missionResponses)
+                .extracting("missionId")
+                .containsExactly(missionIds.get(4), missionIds.get(3), missionIds.get(2), missionIds.get(1));
+    }
+
+    @DisplayName("현재 위치 반경 안의 진행 중인 미션만 가까운 순으로 조회한다.")
+    @Test
+    void getNearbyMissionList() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        Mission nearMission = getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(3), MissionStatus.ACTIVE, 37.5665, 126.9780);
+        Mission nearestMission = getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(3), MissionStatus.ACTIVE, 37.5670, 126.9781);
+        Mission readyMission = getMissionAndSave(user, group, true, now.plusDays(3), now.plusDays(10), MissionStatus.READY, 37.5670, 126.9781);
+        Mission farMission = getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(3), MissionStatus.ACTIVE, 37.5765, 126.9780);
+        userAssignMissionJdbcRepository.batchInsert(
+                List.of(user.getId()),
+                List.of(nearMission.getId(), nearestMission.getId(), readyMission.getId(), farMission.getId())
+        );
+
+        // when
+        List<MissionNearbyResponse> nearbyMissions = missionService.getNearbyMissionList(user.getId(), 37.5671, 126.9781);
+
+        // then
+        assertThat(nearbyMissions)
+                .extracting("missionId")
+                .containsExactly(nearestMission.getId(), nearMission.getId());
+        assertThat(nearbyMissions.get(1).getDistance()).isBetween(60, 75);
+    }
+
+    @DisplayName("미션 상태 조회 조건은 서울 기준 시작일 00:00:00 ~ 종료일 23:59:59 를 진행 중으로 판단한다.")
+    @Test
+    void findIncompleteMissionRowListAtDayBoundary() {
+        // given - 3월 1일 하루짜리 미션
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDate missionDate = LocalDate.of(2023, 3, 1);
+        Mission mission = getMissionAndSave(user, group, true,
+                MissionStatusResolver.missionStartDate(missionDate), MissionStatusResolver.missionEndDate(missionDate), MissionStatus.READY);
+        userAssignMissionJdbcRepository.batchInsert(List.of(user.getId()), List.of(mission.getId()));
+
+        // when // then
+        assertThat(findMissionStatus(user, LocalDateTime.of(2023, 2, 28, 23, 59, 59))).isEqualTo(MissionStatus.READY);
+        assertThat(findMissionStatus(user, LocalDateTime.of(2023, 3, 1, 0, 0, 0))).isEqualTo(MissionStatus.ACTIVE);
+        assertThat(findMissionStatus(user, LocalDateTime.of(2023, 3, 1, 23, 59, 59))).isEqualTo(MissionStatus.ACTIVE);
+        assertThat(findMissionStatus(user, LocalDateTime.of(2023, 3, 2, 0, 0, 0))).isEqualTo(MissionStatus.FINISH);
+    }
+
+    // 조회 조건으로 판단한 상태 - 상태별로 조회해 결과가 있는 상태
+    @DisplayName("미션 게시물 인증에 실패하면 트랜잭션 밖에서 업로드한 이미지의 참조를 해제한다.")
+    @Test
+    void checkMissionContentReleasesUploadedFiles() {
+        // given
+        User user = getUserAndSave();
+        Group group = getGroupSave(user);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        Mission mission = getMissionAndSave(user, group, true, now.minusDays(3), now.plusDays(3), MissionStatus.ACTIVE);
+        userAssignMissionJdbcRepository.batchInsert(List.of(user.getId()), List.of(mission.getId()));   // 위치 인증 전
+
+        List<MultipartFile> files = List.of(new MockMultipartFile("multipartFile", "image.png", "image/png", new byte[]{1}));
+        List<S3Uploader.UploadedFile> uploadedFiles = List.of(
+                new S3Uploader.UploadedFile("image.png", "https://test-bucket.s3.amazonaws.com/image.png")
+        );
+        given(s3Service.uploadFiles(files)).willReturn(uploadedFiles);
+
+        // when // then
+        assertThatThrownBy(() -> missionService.checkMissionContent(user.getId(), files, mission.getId(), "미션 인증"))
+                .isInstanceOf(CustomException.class)
+                .extracting("result")
+                .isEqualTo(Result.NOT_CHECK_MISSION_LOCATION);
+        then(s3Service).should().deleteUploadedFiles(uploadedFiles);
+    }
+
+    private MissionStatus findMissionStatus(User user, LocalDateTime now) {
+        List<MissionStatus> matchedStatuses = new ArrayList<>();
+        for (MissionStatus missionStatus : List.of(MissionStatus.READY, MissionStatus.ACTIVE, MissionStatus.FINISH)) {
+            if (!missionRepository.findIncompleteMissionRowList(user.getId(), List.of(missionStatus), now).isEmpty()) {
+                matchedStatuses.add(missionStatus);
+            }
+        }
+        assertThat(matchedStatuses).hasSize(1);
+        return matchedStatuses.get(0);
+    }
+
+    private Mission getMissionAndSave(User user, Group group, boolean existPeriod, LocalDateTime missionStartDate,
+                                      LocalDateTime missionEndDate, MissionStatus missionStatus) {
+        return getMissionAndSave(user, group, existPeriod, missionStartDate, missionEndDate, missionStatus, 37.5665, 126.9780);
+    }
+
+    private Mission getMissionAndSave(User user, Group group, boolean existPeriod, LocalDateTime missionStartDate,
+                                      LocalDateTime missionEndDate, MissionStatus missionStatus, double latitude, double longitude) {
+        Mission mission = Mission.toEntity(user, group, "테스트 미션", "테스트 내용", existPeriod
+                , missionStartDate, missionEndDate, "삼성 서비스 센터", "서울"
+                , latitude, longitude, 1, missionStatus, null);
+        return missionRepository.save(mission);
+    }
+
+    private User getUserAndSave() {
+        User user = User.builder()
+                .authorities(getAuthorities())
+                .email("test@test.com")
+                .password("abc123!")
+                .name("테스트 계정")
+                .nickName("테스트 닉네임")
+                .phoneNumber("010-1234-5678")
+                .profileImageUrl("test.png")
+                .mainLevel(0L)
+                .subLevel(0.0)
+                .isNewNotification(Boolean.FALSE)
+                .build();
+
+        return userRepository.save(user);
+    }
+
+    private static Set<Authority> getAuthorities() {
+        return Collections.singleton(Authority.builder()
+                .authorityName("ROLE_USER")
+                .build());
+    }
+
+    private Group getGroupSave(User user) {
+        Group group = Group.builder()
+                .groupName("테스트 그룹")
+                .groupCreateUser(user)
+                .groupImageUrl("테스트 이미지")
+                .groupNote("테스트 내용")
+                .build();
+
+        return groupRepository.save(group);
+    }
+}
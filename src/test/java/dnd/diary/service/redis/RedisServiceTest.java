@@ -5,10 +5,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -22,6 +33,9 @@ class RedisServiceTest {
     @Autowired
     private RedisDao redisDao;
 
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     @DisplayName("Redis에 값을 삭제 및 로그아웃 처리를 한다.")
     @Test
     void logoutFromRedis() {
@@ -40,4 +54,168 @@ class RedisServiceTest {
         String insertValues = redisDao.getValues("accessToken");
         assertThat(insertValues).isEqualTo("logout");
     }
-}
\ No newline at end of file
+
+    @DisplayName("64명의 사용자가 동시에 게시물을 조회해도 조회수가 누락되지 않는다.")
+    @Test
+    void getViewsAndRedisSaveConcurrently() throws Exception {
+        // given
+        Long contentId = 987654321L;
+        int viewerCount = 64;
+        int repeatPerViewer = 50;
+        redisDao.deleteValues("viewer" + contentId);
+        redisDao.setValues(contentId.toString(), "0");
+
+        ExecutorService executorService = Executors.newFixedThreadPool(viewerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < viewerCount; i++) {
+            String nickName = "viewer_" + i;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < repeatPerViewer; j++) {
+                    redisService.getViewsAndRedisSave(contentId, nickName, 0L);
+                }
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(redisDao.getValues(contentId.toString())).isEqualTo(String.valueOf(viewerCount));
+        assertThat(redisService.getViewsAndRedisSave(contentId, "viewer_0", 0L)).isEqualTo(viewerCount);
+
+        redisDao.deleteValues("viewer" + contentId);
+        redisDao.deleteValues(contentId.toString());
+    }
+
+    @DisplayName("타임라인이 있는 사용자에게만 게시물이 추가되고 최신 게시물만 유지된다.")
+    @Test
+    void pushTimeline() {
+        // given
+        Long userWithTimeline = 987654321L;
+        Long userWithoutTimeline = 987654322L;
+        redisService.deleteTimeline(List.of(userWithTimeline, userWithoutTimeline));
+        redisService.saveTimeline(userWithTimeline, Map.of(1L, 1000L, 2L, 2000L));
+
+        // when
+        redisService.pushTimeline(List.of(userWithTimeline, userWithoutTimeline), 3L, 3000L, 2);
+
+        // then
+        assertThat(redisService.getTimeline(userWithTimeline, 10))
+                .containsExactly(entry(3L, 3000L), entry(2L, 2000L));
+        assertThat(redisService.hasTimeline(userWithoutTimeline)).isFalse();
+
+        redisService.deleteTimeline(List.of(userWithTimeline, userWithoutTimeline));
+    }
+
+    @DisplayName("타임라인을 다시 생성하는 동안 추가된 게시물은 DB 에서 조회한 타임라인과 병합된다.")
+    @Test
+    void rebuildTimeline() {
+        // given
+        Long rebuildingUser = 987654327L;
+        Long evictedUser = 987654328L;
+        redisService.deleteTimeline(List.of(rebuildingUser, evictedUser));
+        boolean started = redisService.startTimelineRebuild(rebuildingUser);
+        boolean startedAgain = redisService.startTimelineRebuild(rebuildingUser);
+        boolean hasTimelineWhileRebuilding = redisService.hasTimeline(rebuildingUser);
+        redisService.startTimelineRebuild(evictedUser);
+
+        // when - DB 조회 중 게시물 3 이 작성되고, evictedUser 는 그룹 가입으로 타임라인이 삭제됨
+        redisService.pushTimeline(List.of(rebuildingUser, evictedUser), 3L, 3000L, 10);
+        redisService.deleteTimeline(List.of(evictedUser));
+        redisService.completeTimelineRebuild(rebuildingUser, Map.of(1L, 1000L, 2L, 2000L), 10);
+        redisService.completeTimelineRebuild(evictedUser, Map.of(1L, 1000L, 2L, 2000L), 10);
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(startedAgain).isFalse();
+        assertThat(hasTimelineWhileRebuilding).isFalse();
+        assertThat(redisService.hasTimeline(rebuildingUser)).isTrue();
+        assertThat(redisService.getTimeline(rebuildingUser, 10))
+                .containsExactly(entry(3L, 3000L), entry(2L, 2000L), entry(1L, 1000L));
+        assertThat(redisService.hasTimeline(evictedUser)).isFalse();
+
+        redisService.deleteTimeline(List.of(rebuildingUser, evictedUser));
+    }
+
+    @DisplayName("읽지 않은 알림 개수는 저장된 사용자만 증감되고 0 미만으로 내려가지 않는다.")
+    @Test
+    void increaseAndDecreaseUnreadNotificationCount() {
+        // given
+        Long userWithCount = 987654323L;
+        Long userWithoutCount = 987654324L;
+        redisDao.deleteValues("notification:unread:" + userWithoutCount);
+        redisService.setUnreadNotificationCount(userWithCount, 0L);
+
+        // when
+        redisService.increaseUnreadNotificationCount(List.of(userWithCount, userWithoutCount));
+        redisService.decreaseUnreadNotificationCount(userWithCount);
+        redisService.decreaseUnreadNotificationCount(userWithCount);
+
+        // then
+        assertThat(redisService.getUnreadNotificationCount(userWithCount)).isZero();
+        assertThat(redisService.getUnreadNotificationCount(userWithoutCount)).isNull();
+
+        redisDao.deleteValues("notification:unread:" + userWithCount);
+    }
+
+    @DisplayName("읽지 않은 알림 개수 보정은 조회 후 증감된 사용자를 덮어쓰지 않고, 만료 시간과 사용자 목록을 늘리지 않는다.")
+    @Test
+    void replaceUnreadNotificationCounts() {
+        // given
+        Long unchangedUser = 987654325L;
+        Long increasedUser = 987654326L;
+        redisDao.deleteValues("notification:unread:users");
+        redisService.setUnreadNotificationCount(unchangedUser, 3L);
+        redisService.setUnreadNotificationCount(increasedUser, 3L);
+        redisDao.expire("notification:unread:" + unchangedUser, Duration.ofMinutes(5));
+        Map<Long, Long> cachedCounts = redisService.popUnreadNotificationUsers(10);
+        redisService.increaseUnreadNotificationCount(List.of(increasedUser));
+
+        // when
+        long replacedCount = redisService.replaceUnreadNotificationCounts(
+                cachedCounts, Map.of(unchangedUser, 1L, increasedUser, 1L)
+        );
+
+        // then
+        assertThat(cachedCounts).containsOnly(entry(unchangedUser, 3L), entry(increasedUser, 3L));
+        assertThat(replacedCount).isEqualTo(1L);
+        assertThat(redisService.getUnreadNotificationCount(unchangedUser)).isEqualTo(1L);
+        assertThat(redisService.getUnreadNotificationCount(increasedUser)).isEqualTo(4L);
+        assertThat(redisTemplate.getExpire("notification:unread:" + unchangedUser)).isLessThanOrEqualTo(300L);
+        assertThat(redisService.popUnreadNotificationUsers(10)).isEmpty();
+
+        redisDao.deleteValues("notification:unread:" + unchangedUser);
+        redisDao.deleteValues("notification:unread:" + increasedUser);
+    }
+
+    @DisplayName("업로드 대기 파일은 요청한 사용자만 확인할 수 있고, 확인되지 않은 채 만료된 파일만 정리 대상이 된다.")
+    @Test
+    void pendingUploads() {
+        // given
+        Long userId = 987654325L;
+        long now = System.currentTimeMillis();
+        redisDao.deleteValues("upload:pending");
+        redisService.addPendingUploads(userId, List.of("confirmed.png", "expired.png"), now - 1000);
+        redisService.addPendingUploads(userId, List.of("waiting.png"), now + 60000);
+
+        // when
+        boolean confirmedByOther = redisService.removePendingUpload(987654326L, "confirmed.png");
+        boolean confirmed = redisService.removePendingUpload(userId, "confirmed.png");
+        List<String> expiredFileNames = redisService.popExpiredPendingUploads(now, 10);
+
+        // then
+        assertThat(confirmedByOther).isFalse();
+        assertThat(confirmed).isTrue();
+        assertThat(expiredFileNames).containsExactly("expired.png");
+        assertThat(redisService.popExpiredPendingUploads(now, 10)).isEmpty();
+        assertThat(redisService.removePendingUpload(userId, "waiting.png")).isTrue();
+    }
+}
@@ -0,0 +1,85 @@
+package dnd.diary.service.s3;
+
+import dnd.diary.domain.content.ImageDeletion;
+import dnd.diary.repository.content.ImageDeletionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ImageDeletionProcessorTest {
+
+    @MockBean
+    private S3Uploader s3Uploader;
+
+    @Autowired
+    private ImageDeletionProcessor imageDeletionProcessor;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("삭제된 파일만 대기 목록에서 제거하고, 실패한 파일은 바로 다시 가져가지 않는다.")
+    @Test
+    void processPending() {
+        // given
+        imageDeletionRepository.saveAll(List.of(
+                ImageDeletion.toEntity("deleted.png"),
+                ImageDeletion.toEntity("failed.png")
+        ));
+        given(s3Uploader.deleteObjects(anyList()))
+                .willReturn(Set.of("failed.png"));
+
+        // when
+        int deletedCount = imageDeletionProcessor.processPending();
+        int retriedCount = imageDeletionProcessor.processPending();
+
+        // then
+        entityManager.clear();
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(retriedCount).isZero();
+        assertThat(imageDeletionRepository.findAll())
+                .extracting("fileName", "attemptCount")
+                .containsExactly(tuple("failed.png", 1));
+        assertThat(imageDeletionRepository.findAll().get(0).getClaimedAt()).isNotNull();
+        then(s3Uploader).should(times(1)).deleteObjects(anyList());
+    }
+
+    @DisplayName("S3 요청이 실패하면 대기 목록을 그대로 두고 다음에 다시 삭제한다.")
+    @Test
+    void processPendingFailure() {
+        // given
+        imageDeletionRepository.save(ImageDeletion.toEntity("image.png"));
+        given(s3Uploader.deleteObjects(anyList()))
+                .willThrow(new IllegalStateException("S3 오류"));
+
+        // when
+        int deletedCount = imageDeletionProcessor.processPending();
+
+        // then
+        entityManager.clear();
+        assertThat(deletedCount).isZero();
+        assertThat(imageDeletionRepository.findAll())
+                .extracting("fileName")
+                .containsExactly("image.png");
+    }
+}
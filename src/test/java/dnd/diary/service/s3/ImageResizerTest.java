@@ -0,0 +1,137 @@
+package dnd.diary.service.s3;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @DisplayName("비율을 유지해 지정한 너비로 축소한다.")
+    @Test
+    void resize() {
+        // given
+        BufferedImage original = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        BufferedImage resized = ImageResizer.resize(original, 320);
+
+        // then
+        assertThat(resized.getWidth()).isEqualTo(320);
+        assertThat(resized.getHeight()).isEqualTo(160);
+    }
+
+    @DisplayName("지정한 너비보다 작은 이미지는 확대하지 않는다.")
+    @Test
+    void resizeSmallImage() {
+        // given
+        BufferedImage original = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        BufferedImage resized = ImageResizer.resize(original, 320);
+
+        // then
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(100);
+    }
+
+    @DisplayName("EXIF 회전 정보를 픽셀에 반영하고, 축소본에는 EXIF 를 포함하지 않는다.")
+    @Test
+    void readWithExifOrientation() throws IOException {
+        // given - 90도 회전해서 보여야 하는 200x100 사진
+        byte[] original = withExifOrientation(toJpeg(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB)), 6);
+
+        // when
+        BufferedImage image = ImageResizer.read(original);
+        byte[] variant = ImageResizer.toJpeg(ImageResizer.resize(image, 50), 0.8f);
+
+        // then
+        assertThat(ImageResizer.readExifOrientation(original)).isEqualTo(6);
+        assertThat(image.getWidth()).isEqualTo(100);
+        assertThat(image.getHeight()).isEqualTo(200);
+        assertThat(new String(variant, StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @DisplayName("이미지가 아닌 파일은 null 을 반환한다.")
+    @Test
+    void readNotImage() throws IOException {
+        assertThat(ImageResizer.read("not image".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @DisplayName("헤더의 가로/세로 크기가 제한을 넘는 이미지는 디코딩하지 않고 null 을 반환한다.")
+    @Test
+    void readTooLargeImage() throws IOException {
+        // given - 실제 픽셀은 1x1 이지만 헤더에는 10000x10000 으로 기록된 PNG
+        byte[] png = withPngSize(toPng(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB)), 10000, 10000);
+
+        // when // then
+        assertThat(ImageResizer.read(png)).isNull();
+    }
+
+    @DisplayName("회전 정보가 없는 투명 이미지는 흰 배경의 RGB 이미지로 변환한다.")
+    @Test
+    void readTransparentImage() throws IOException {
+        // given
+        byte[] png = toPng(new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB));
+
+        // when
+        BufferedImage image = ImageResizer.read(png);
+
+        // then
+        assertThat(image.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(image.getRGB(0, 0)).isEqualTo(0xFFFFFFFF);
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // IHDR 의 가로/세로 크기 변경 (시그니처 8 + 길이 4 + 타입 4 바이트 뒤) 후 CRC 다시 계산
+    private byte[] withPngSize(byte[] png, int width, int height) {
+        byte[] result = png.clone();
+        ByteBuffer.wrap(result, 16, 8).putInt(width).putInt(height);
+        CRC32 crc = new CRC32();
+        crc.update(result, 12, 17);
+        ByteBuffer.wrap(result, 29, 4).putInt((int) crc.getValue());
+        return result;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 가진 APP1(Exif) 세그먼트 추가 (big endian)
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        byte[] exifHeader = {'E', 'x', 'i', 'f', 0, 0};
+        int length = 2 + exifHeader.length + tiff.length;
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(jpeg, 0, 2);
+        outputStream.write(0xFF);
+        outputStream.write(0xE1);
+        outputStream.write(length >> 8);
+        outputStream.write(length & 0xFF);
+        outputStream.write(exifHeader, 0, exifHeader.length);
+        outputStream.write(tiff, 0, tiff.length);
+        outputStream.write(jpeg, 2, jpeg.length - 2);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,136 @@
+package dnd.diary.service.s3;
+
+import dnd.diary.domain.content.StoredImage;
+import dnd.diary.repository.content.ImageDeletionRepository;
+import dnd.diary.repository.content.StoredImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ImageStoreTest {
+
+    @MockBean
+    private S3Uploader s3Uploader;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        given(s3Uploader.getUrl(anyString()))
+                .willAnswer(invocation -> "https://test-bucket.s3.amazonaws.com/" + invocation.getArgument(0));
+        given(s3Uploader.uploadAll(anyList()))
+                .willAnswer(invocation -> invocation.<List<MultipartFile>>getArgument(0).stream()
+                        .map(file -> new S3Uploader.UploadedFile(
+                                "uploaded-" + file.getOriginalFilename(),
+                                "https://test-bucket.s3.amazonaws.com/uploaded-" + file.getOriginalFilename()
+                        ))
+                        .toList());
+    }
+
+    @DisplayName("같은 내용의 이미지는 한 번만 업로드하고 기존 파일을 참조한다.")
+    @Test
+    void storeAllDuplicatedImage() {
+        // given
+        MockMultipartFile first = image("first.png", new byte[]{1, 2, 3});
+        MockMultipartFile second = image("second.png", new byte[]{1, 2, 3});
+        MockMultipartFile other = image("other.png", new byte[]{4, 5, 6});
+
+        // when
+        List<S3Uploader.UploadedFile> firstStored = imageStore.storeAll(List.of(first, other));
+        List<S3Uploader.UploadedFile> secondStored = imageStore.storeAll(List.of(second));
+
+        // then
+        assertThat(secondStored.get(0).getFileName()).isEqualTo(firstStored.get(0).getFileName());
+        assertThat(secondStored.get(0).getFileUrl()).isEqualTo(firstStored.get(0).getFileUrl());
+        assertThat(referenceCount(firstStored.get(0).getFileName())).isEqualTo(2);
+        assertThat(referenceCount(firstStored.get(1).getFileName())).isEqualTo(1);
+        then(s3Uploader).should(times(1)).uploadAll(anyList());
+    }
+
+    @DisplayName("한 요청 안에 같은 이미지가 여러 개면 한 번만 업로드하고 개수만큼 참조한다.")
+    @Test
+    void storeAllDuplicatedInRequest() {
+        // given
+        MockMultipartFile first = image("first.png", new byte[]{1, 2, 3});
+        MockMultipartFile second = image("second.png", new byte[]{1, 2, 3});
+
+        // when
+        List<S3Uploader.UploadedFile> stored = imageStore.storeAll(List.of(first, second));
+
+        // then
+        assertThat(stored).extracting("fileName").containsExactly("uploaded-first.png", "uploaded-first.png");
+        assertThat(referenceCount("uploaded-first.png")).isEqualTo(2);
+    }
+
+    @DisplayName("마지막 참조가 해제될 때만 원본과 축소본을 삭제 대기 목록에 저장한다.")
+    @Test
+    void release() {
+        // given
+        imageStore.storeAll(List.of(image("first.png", new byte[]{1, 2, 3})));
+        imageStore.storeAll(List.of(image("second.png", new byte[]{1, 2, 3})));
+
+        // when
+        List<String> firstReleased = imageStore.release(List.of("uploaded-first.png"));
+        List<String> lastReleased = imageStore.release(List.of("uploaded-first.png"));
+
+        // then
+        assertThat(firstReleased).isEmpty();
+        assertThat(lastReleased).containsExactly("uploaded-first.png");
+        assertThat(storedImageRepository.findAll()).isEmpty();
+        assertThat(imageDeletionRepository.findAll())
+                .extracting("fileName")
+                .containsExactlyInAnyOrder("uploaded-first.png", "medium/uploaded-first.jpg", "thumbnail/uploaded-first.jpg");
+    }
+
+    @DisplayName("중복 제거 기록이 없는 파일은 바로 삭제 대상으로 반환한다.")
+    @Test
+    void releaseNotStoredFile() {
+        // when
+        List<String> released = imageStore.release(List.of("legacy.png"));
+
+        // then
+        assertThat(released).containsExactly("legacy.png");
+    }
+
+    private MockMultipartFile image(String originalFilename, byte[] bytes) {
+        return new MockMultipartFile("multipartFile", originalFilename, "image/png", bytes);
+    }
+
+    private long referenceCount(String fileName) {
+        entityManager.clear();   // 참조 수는 벌크 UPDATE 로 변경되므로 DB 값으로 조회
+        return storedImageRepository.findAll().stream()
+                .filter(storedImage -> storedImage.getFileName().equals(fileName))
+                .mapToLong(StoredImage::getReferenceCount)
+                .sum();
+    }
+}
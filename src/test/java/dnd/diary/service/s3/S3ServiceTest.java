@@ -0,0 +1,245 @@
+package dnd.diary.service.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import dnd.diary.enumeration.Result;
+import dnd.diary.exception.CustomException;
+import dnd.diary.request.controller.common.UploadSlotRequest;
+import dnd.diary.response.common.UploadSlotResponse;
+import dnd.diary.service.redis.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class S3ServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String FILE_URL_PREFIX = "https://test-bucket.s3.amazonaws.com/";
+
+    private final S3Uploader s3Uploader = mock(S3Uploader.class);
+    private final RedisService redisService = mock(RedisService.class);
+    private final S3Service s3Service = new S3Service(mock(AmazonS3.class), s3Uploader, mock(ImageStore.class), redisService);
+
+    // 메모리에 저장하는 S3 대체 - 저장된 파일 이름
+    private final Set<String> storedFileNames = new HashSet<>();
+    // 업로드 확인 대기 중인 파일 이름
+    private final Set<String> pendingFileNames = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        given(s3Uploader.getUrl(anyString()))
+                .willAnswer(invocation -> FILE_URL_PREFIX + invocation.getArgument(0));
+        given(s3Uploader.createFileName(anyString()))
+                .willAnswer(invocation -> "uuid-" + invocation.getArgument(0));
+        given(s3Uploader.createUploadUrl(anyString(), anyString(), any()))
+                .willAnswer(invocation -> toUrl(invocation.getArgument(0)));
+        given(s3Uploader.copy(anyString(), anyString(), anyString()))
+                .willAnswer(invocation -> {
+                    storedFileNames.add(invocation.getArgument(1));
+                    return new S3Uploader.UploadedFile(invocation.getArgument(1), FILE_URL_PREFIX + invocation.getArgument(1));
+                });
+        willAnswer(invocation -> {
+            invocation.<List<S3Uploader.UploadedFile>>getArgument(0)
+                    .forEach(uploadedFile -> storedFileNames.remove(uploadedFile.getFileName()));
+            return null;
+        }).given(s3Uploader).deleteAll(anyList());
+        given(s3Uploader.deleteObjects(anyList()))
+                .willAnswer(invocation -> {
+                    invocation.<List<String>>getArgument(0).forEach(storedFileNames::remove);
+                    return Set.of();
+                });
+        given(redisService.removePendingUpload(eq(USER_ID), anyString()))
+                .willAnswer(invocation -> pendingFileNames.remove(invocation.<String>getArgument(1)));
+    }
+
+    @DisplayName("직접 업로드 URL 은 공개되지 않는 업로드 경로로 발급하고 확인 대기 목록에 추가한다.")
+    @Test
+    void createUploadSlots() {
+        // given
+        UploadSlotRequest request = new UploadSlotRequest("image.png", "image/png");
+
+        // when
+        List<UploadSlotResponse> uploadSlots = s3Service.createUploadSlots(USER_ID, List.of(request));
+
+        // then
+        assertThat(uploadSlots).extracting("fileName", "fileUrl")
+                .containsExactly(tuple("upload/uuid-image.png", FILE_URL_PREFIX + "uuid-image.png"));
+        then(s3Uploader).should().createUploadUrl(eq("upload/uuid-image.png"), eq("image/png"), any());
+        then(redisService).should().addPendingUploads(eq(USER_ID), eq(List.of("upload/uuid-image.png")), anyLong());
+    }
+
+    @DisplayName("업로드를 확인하면 공개 경로로 복사하고 업로드 경로의 파일을 삭제한다.")
+    @Test
+    void confirmUploads() {
+        // given
+        upload("upload/a.png", 1024);
+
+        // when
+        List<S3Uploader.UploadedFile> confirmedFiles = s3Service.confirmUploads(USER_ID, List.of("upload/a.png"));
+
+        // then
+        assertThat(confirmedFiles).extracting("fileName", "fileUrl")
+                .containsExactly(tuple("a.png", FILE_URL_PREFIX + "a.png"));
+        then(s3Uploader).should().copy("upload/a.png", "a.png", "etag-upload/a.png");
+        assertThat(storedFileNames).containsExactly("a.png");
+        then(s3Uploader).should().deleteObjects(List.of("upload/a.png"));
+        then(redisService).should().addConfirmedUploads(eq(List.of("upload/a.png")), anyLong());
+    }
+
+    @DisplayName("다른 사용자가 발급받은 파일은 확인할 수 없다.")
+    @Test
+    void confirmUploadsNotOwned() {
+        // given
+        upload("upload/a.png", 1024);
+        given(redisService.removePendingUpload(2L, "upload/a.png")).willReturn(false);
+
+        // when // then
+        assertThatThrownBy(() -> s3Service.confirmUploads(2L, List.of("upload/a.png")))
+                .isInstanceOf(CustomException.class)
+                .extracting("result")
+                .isEqualTo(Result.INVALID_UPLOAD_FILE);
+        then(s3Uploader).should(never()).copy(anyString(), anyString(), anyString());
+        assertThat(storedFileNames).containsExactly("upload/a.png");
+    }
+
+    @DisplayName("업로드되지 않은 파일은 확인할 수 없다.")
+    @Test
+    void confirmUploadsMissingObject() {
+        // given
+        pendingFileNames.add("upload/a.png");
+
+        // when // then
+        assertThatThrownBy(() -> s3Service.confirmUploads(USER_ID, List.of("upload/a.png")))
+                .isInstanceOf(CustomException.class)
+                .extracting("result")
+                .isEqualTo(Result.INVALID_UPLOAD_FILE);
+        then(s3Uploader).should(never()).copy(anyString(), anyString(), anyString());
+    }
+
+    @DisplayName("20MB 를 넘는 파일은 공개 경로로 복사하지 않고 삭제한다.")
+    @Test
+    void confirmUploadsOversize() {
+        // given
+        upload("upload/a.png", 20 * 1024 * 1024L + 1);
+
+        // when // then
+        assertThatThrownBy(() -> s3Service.confirmUploads(USER_ID, List.of("upload/a.png")))
+                .isInstanceOf(CustomException.class)
+                .extracting("result")
+                .isEqualTo(Result.NOT_SUPPORTED_UPLOAD_FILE);
+        then(s3Uploader).should(never()).copy(anyString(), anyString(), anyString());
+        assertThat(storedFileNames).isEmpty();
+    }
+
+    @DisplayName("하나라도 확인에 실패하면 이미 확인한 파일과 업로드 경로의 파일을 모두 삭제한다.")
+    @Test
+    void confirmUploadsCleanUpWhenOneFails() {
+        // given
+        upload("upload/a.png", 1024);
+        upload("upload/b.png", 20 * 1024 * 1024L + 1);
+        upload("upload/c.png", 1024);
+
+        // when // then
+        assertThatThrownBy(() -> s3Service.confirmUploads(USER_ID, List.of("upload/a.png", "upload/b.png", "upload/c.png")))
+                .isInstanceOf(CustomException.class);
+        assertThat(storedFileNames).containsExactly("upload/c.png");
+        assertThat(pendingFileNames).containsExactly("upload/c.png");
+        then(redisService).should().addConfirmedUploads(eq(List.of("upload/a.png", "upload/b.png")), anyLong());
+    }
+
+    @DisplayName("검사한 뒤 다시 업로드된 파일은 복사하지 않는다.")
+    @Test
+    void confirmUploadsOverwrittenAfterCheck() {
+        // given
+        upload("upload/a.png", 1024);
+        given(s3Uploader.copy("upload/a.png", "a.png", "etag-upload/a.png")).willReturn(null);
+
+        // when // then
+        assertThatThrownBy(() -> s3Service.confirmUploads(USER_ID, List.of("upload/a.png")))
+                .isInstanceOf(CustomException.class)
+                .extracting("result")
+                .isEqualTo(Result.INVALID_UPLOAD_FILE);
+        assertThat(storedFileNames).isEmpty();
+    }
+
+    @DisplayName("만료된 업로드 파일은 한 번에 삭제하고, 삭제에 실패한 파일은 대기 목록에 다시 추가한다.")
+    @Test
+    void deleteExpiredUploads() {
+        // given
+        upload("upload/a.png", 1024);
+        upload("upload/b.png", 1024);
+        given(redisService.popExpiredPendingUploads(anyLong(), eq(100)))
+                .willReturn(List.of("upload/a.png", "upload/b.png"));
+        given(s3Uploader.deleteObjects(List.of("upload/a.png", "upload/b.png")))
+                .willAnswer(invocation -> {
+                    storedFileNames.remove("upload/a.png");
+                    return Set.of("upload/b.png");
+                });
+
+        // when
+        int deletedCount = s3Service.deleteExpiredUploads(100);
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(storedFileNames).containsExactly("upload/b.png");
+        then(s3Uploader).should(never()).deleteAll(anyList());
+        then(redisService).should().addConfirmedUploads(eq(List.of("upload/b.png")), anyLong());
+    }
+
+    @DisplayName("만료된 업로드 파일 삭제 요청이 실패하면 모두 대기 목록에 다시 추가한다.")
+    @Test
+    void deleteExpiredUploadsRequestFails() {
+        // given
+        upload("upload/a.png", 1024);
+        given(redisService.popExpiredPendingUploads(anyLong(), eq(100)))
+                .willReturn(List.of("upload/a.png"));
+        given(s3Uploader.deleteObjects(List.of("upload/a.png")))
+                .willThrow(new IllegalStateException("S3 요청 실패"));
+
+        // when
+        int deletedCount = s3Service.deleteExpiredUploads(100);
+
+        // then
+        assertThat(deletedCount).isZero();
+        assertThat(storedFileNames).containsExactly("upload/a.png");
+        then(redisService).should().addConfirmedUploads(eq(List.of("upload/a.png")), anyLong());
+    }
+
+    private void upload(String fileName, long contentLength) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(contentLength);
+        objectMetadata.setContentType("image/png");
+        objectMetadata.setHeader("ETag", "etag-" + fileName);
+        given(s3Uploader.getMetadata(fileName)).willReturn(objectMetadata);
+        storedFileNames.add(fileName);
+        pendingFileNames.add(fileName);
+    }
+
+    private static URL toUrl(String fileName) {
+        try {
+            return new URL(FILE_URL_PREFIX + fileName);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
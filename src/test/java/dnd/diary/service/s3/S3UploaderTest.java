@@ -0,0 +1,195 @@
+package dnd.diary.service.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import dnd.diary.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class S3UploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final AmazonS3 amazonS3 = mock(AmazonS3.class);
+    // 메모리에 저장하는 S3 대체 - 업로드된 파일 이름
+    private final Set<String> storedFileNames = ConcurrentHashMap.newKeySet();
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Uploader = new S3Uploader(amazonS3, BUCKET);
+        given(amazonS3.getUrl(anyString(), anyString()))
+                .willAnswer(invocation -> toUrl(invocation.getArgument(1)));
+        willAnswer(invocation -> storedFileNames.remove(invocation.<DeleteObjectRequest>getArgument(0).getKey()))
+                .given(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Uploader.shutdown();
+    }
+
+    @DisplayName("여러 파일을 동시에 업로드하고 요청 순서대로 결과를 반환한다.")
+    @Test
+    void uploadAllConcurrently() {
+        // given
+        int fileCount = 4;
+        CountDownLatch allStarted = new CountDownLatch(fileCount);
+        given(amazonS3.putObject(any(PutObjectRequest.class)))
+                .willAnswer(invocation -> {
+                    // 모든 업로드가 동시에 시작되어야 통과 - 순차 업로드라면 대기 시간 초과
+                    allStarted.countDown();
+                    assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                    storedFileNames.add(invocation.<PutObjectRequest>getArgument(0).getKey());
+                    return new PutObjectResult();
+                });
+
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            files.add(new MockMultipartFile("multipartFile", "image" + i + ".png", "image/png", new byte[]{(byte) i}));
+        }
+
+        // when
+        List<S3Uploader.UploadedFile> uploadedFiles = s3Uploader.uploadAll(files);
+
+        // then
+        assertThat(uploadedFiles).hasSize(fileCount);
+        assertThat(uploadedFiles).extracting("fileName").allMatch(fileName -> ((String) fileName).endsWith(".png"));
+        assertThat(storedFileNames).containsExactlyInAnyOrderElementsOf(
+                uploadedFiles.stream().map(S3Uploader.UploadedFile::getFileName).toList()
+        );
+        assertThat(uploadedFiles.get(0).getFileUrl()).isEqualTo(toUrl(uploadedFiles.get(0).getFileName()).toString());
+    }
+
+    @DisplayName("일부 파일 업로드에 실패하면 이미 업로드된 파일을 삭제하고 실패 처리한다.")
+    @Test
+    void uploadAllFailure() {
+        // given
+        AtomicInteger putCount = new AtomicInteger();
+        given(amazonS3.putObject(any(PutObjectRequest.class)))
+                .willAnswer(invocation -> {
+                    if (putCount.incrementAndGet() == 2) {
+                        throw new IllegalStateException("S3 오류");
+                    }
+                    storedFileNames.add(invocation.<PutObjectRequest>getArgument(0).getKey());
+                    return new PutObjectResult();
+                });
+
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("multipartFile", "image0.png", "image/png", new byte[]{0}),
+                new MockMultipartFile("multipartFile", "image1.png", "image/png", new byte[]{1}),
+                new MockMultipartFile("multipartFile", "image2.png", "image/png", new byte[]{2})
+        );
+
+        // when // then
+        assertThatThrownBy(() -> s3Uploader.uploadAll(files))
+                .isInstanceOf(CustomException.class);
+        assertThat(storedFileNames).isEmpty();
+    }
+
+    @DisplayName("업로드 대기 시간이 지나면 실패 처리하고, 그 뒤에 완료된 업로드도 삭제한다.")
+    @Test
+    void uploadAllTimeout() throws InterruptedException {
+        // given
+        S3Uploader timeoutUploader = new S3Uploader(amazonS3, BUCKET, Duration.ofMillis(100));
+        CountDownLatch slowUploadReleased = new CountDownLatch(1);
+        CountDownLatch allDeleted = new CountDownLatch(2);
+        given(amazonS3.putObject(any(PutObjectRequest.class)))
+                .willAnswer(invocation -> {
+                    PutObjectRequest request = invocation.getArgument(0);
+                    if (request.getMetadata().getContentLength() == 2) {
+                        assertThat(slowUploadReleased.await(5, TimeUnit.SECONDS)).isTrue();
+                    }
+                    storedFileNames.add(request.getKey());
+                    return new PutObjectResult();
+                });
+        willAnswer(invocation -> {
+            storedFileNames.remove(invocation.<DeleteObjectRequest>getArgument(0).getKey());
+            allDeleted.countDown();
+            return null;
+        }).given(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("multipartFile", "image0.png", "image/png", new byte[]{0}),
+                new MockMultipartFile("multipartFile", "image1.png", "image/png", new byte[]{1, 1})
+        );
+
+        // when
+        try {
+            assertThatThrownBy(() -> timeoutUploader.uploadAll(files))
+                    .isInstanceOf(CustomException.class);
+            slowUploadReleased.countDown();
+
+            // then
+            assertThat(allDeleted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(storedFileNames).isEmpty();
+        } finally {
+            timeoutUploader.shutdown();
+        }
+    }
+
+    @DisplayName("여러 파일을 1000개씩 나눠 삭제하고, 삭제에 실패한 파일 이름을 반환한다.")
+    @Test
+    void deleteObjects() {
+        // given
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            fileNames.add("image" + i + ".png");
+        }
+        List<Integer> requestSizes = new ArrayList<>();
+        given(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willAnswer(invocation -> {
+                    DeleteObjectsRequest request = invocation.getArgument(0);
+                    requestSizes.add(request.getKeys().size());
+                    if (request.getKeys().size() < 1000) {
+                        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+                        error.setKey("image1499.png");
+                        error.setCode("InternalError");
+                        throw new MultiObjectDeleteException(List.of(error), List.of());
+                    }
+                    return null;
+                });
+
+        // when
+        Set<String> failedFileNames = s3Uploader.deleteObjects(fileNames);
+
+        // then
+        assertThat(requestSizes).containsExactly(1000, 500);
+        assertThat(failedFileNames).containsExactly("image1499.png");
+    }
+
+    private URL toUrl(String fileName) {
+        try {
+            return new URL("https://" + BUCKET + ".s3.amazonaws.com/" + fileName);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}